@@ -0,0 +1,42 @@
+package com.exasol.projectkeeper;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.exasol.projectkeeper.benchmark.Fixtures;
+
+/**
+ * Benchmark for {@link ExcludedFilesMatcher#isFileExcluded(Path)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExcludedFilesMatcherBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    @Param({ "1", "10", "50" })
+    int numberOfPatterns;
+    private List<Path> files;
+    private ExcludedFilesMatcher matcher;
+
+    @Setup
+    public void setup() {
+        this.files = Fixtures.filePaths(this.size);
+        final List<String> patterns = IntStream.range(0, this.numberOfPatterns)
+                .mapToObj(index -> "src/main/module" + index + "/**").collect(Collectors.toList());
+        this.matcher = new ExcludedFilesMatcher(patterns);
+    }
+
+    @Benchmark
+    public void isFileExcluded(final Blackhole blackhole) {
+        for (final Path file : this.files) {
+            blackhole.consume(this.matcher.isFileExcluded(file));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.exasol.projectkeeper.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Dependency;
+
+import com.exasol.projectkeeper.validators.dependencies.License;
+import com.exasol.projectkeeper.validators.dependencies.ProjectDependency;
+
+/**
+ * Generator for the synthetic inputs of the benchmarks.
+ * <p>
+ * All fixtures are generated locally and deterministically, so that the benchmarks don't need network access and
+ * results of different runs are comparable.
+ * </p>
+ */
+public final class Fixtures {
+    private static final String NL = System.lineSeparator();
+
+    private Fixtures() {
+        // static class
+    }
+
+    /**
+     * Generate a pom file with the given number of dependencies and plugins.
+     *
+     * @param size number of dependencies and plugins
+     * @return content of the pom file
+     */
+    public static String pom(final int size) {
+        final var pom = new StringBuilder();
+        pom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(NL)
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">").append(NL)
+                .append("    <modelVersion>4.0.0</modelVersion>").append(NL)
+                .append("    <groupId>com.example</groupId>").append(NL)
+                .append("    <artifactId>benchmark-project</artifactId>").append(NL)
+                .append("    <version>1.0.0</version>").append(NL)
+                .append("    <dependencies>").append(NL);
+        for (int index = 0; index < size; index++) {
+            pom.append("        <dependency>").append(NL)
+                    .append("            <groupId>com.example.group").append(index % 10).append("</groupId>").append(NL)
+                    .append("            <artifactId>artifact-").append(index).append("</artifactId>").append(NL)
+                    .append("            <version>1.").append(index).append(".0</version>").append(NL)
+                    .append("        </dependency>").append(NL);
+        }
+        pom.append("    </dependencies>").append(NL).append("    <build>").append(NL).append("        <plugins>")
+                .append(NL);
+        for (int index = 0; index < size; index++) {
+            pom.append("            <plugin>").append(NL)
+                    .append("                <groupId>com.example.plugins</groupId>").append(NL)
+                    .append("                <artifactId>plugin-").append(index).append("</artifactId>").append(NL)
+                    .append("                <version>2.").append(index).append(".0</version>").append(NL)
+                    .append("                <configuration><setting>").append(index).append("</setting></configuration>")
+                    .append(NL).append("            </plugin>").append(NL);
+        }
+        pom.append("        </plugins>").append(NL).append("    </build>").append(NL).append("</project>").append(NL);
+        return pom.toString();
+    }
+
+    /**
+     * Generate a list of maven dependencies.
+     * <p>
+     * Every tenth dependency has a different version per {@code release}, and the dependencies' artifact ids are
+     * shifted by {@code release}, so that comparing the lists of two releases finds added, removed and updated
+     * dependencies.
+     * </p>
+     *
+     * @param size    number of dependencies
+     * @param release number of the release
+     * @return dependencies
+     */
+    public static List<Dependency> mavenDependencies(final int size, final int release) {
+        return IntStream.range(release, size + release).mapToObj(index -> {
+            final var dependency = new Dependency();
+            dependency.setGroupId("com.example.group" + index % 10);
+            dependency.setArtifactId("artifact-" + index);
+            dependency.setVersion("1." + (index % 10 == 0 ? release : 0) + ".0");
+            dependency.setScope(index % 3 == 0 ? "test" : "compile");
+            return dependency;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Generate a list of dependencies for the dependencies page.
+     *
+     * @param size number of dependencies
+     * @return dependencies
+     */
+    public static List<ProjectDependency> projectDependencies(final int size) {
+        final ProjectDependency.Type[] types = ProjectDependency.Type.values();
+        return IntStream.range(0, size)
+                .mapToObj(index -> new ProjectDependency("Dependency " + index,
+                        "https://example.com/dependency-" + index,
+                        List.of(new License("License " + index % 5, "https://example.com/license-" + index % 5)),
+                        types[index % types.length]))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generate the content of a changes file.
+     *
+     * @param size number of entries per section
+     * @return content of the changes file
+     */
+    public static String changesFile(final int size) {
+        final var content = new StringBuilder();
+        content.append("# Benchmark Project 1.0.0, released 2021-01-01").append(NL).append(NL).append("Code name:")
+                .append(NL).append(NL);
+        for (final String section : List.of("Summary", "Features", "Bug Fixes", "Refactoring",
+                "Dependency Updates")) {
+            content.append("## ").append(section).append(NL).append(NL);
+            for (int index = 0; index < size; index++) {
+                content.append("* #").append(index).append(": ").append(section).append(" entry ").append(index)
+                        .append(NL);
+            }
+            content.append(NL);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Generate relative file paths in a directory tree.
+     *
+     * @param size number of paths
+     * @return paths
+     */
+    public static List<Path> filePaths(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> Path.of("src", "main", "module" + index % 20, "File" + index + ".java"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generate deterministic pseudo random bytes.
+     *
+     * @param size number of bytes
+     * @return bytes
+     */
+    public static byte[] bytes(final int size) {
+        final var bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Create a temporary directory for file based benchmarks.
+     *
+     * @return created directory
+     */
+    public static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("project-keeper-benchmark");
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Delete a directory that was created by {@link #createTempDirectory()}.
+     *
+     * @param directory directory to delete
+     */
+    public static void deleteDirectory(final Path directory) {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.exasol.projectkeeper.validators.changesfile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.projectkeeper.FixTransaction;
+import com.exasol.projectkeeper.benchmark.Fixtures;
+
+/**
+ * Benchmark for {@link ChangesFileIO#read(Path)} and {@link ChangesFileIO#write(ChangesFile, Path, FixTransaction)}.
+ * <p>
+ * The write benchmark commits the transaction, so that it measures writing the file and not only staging it. The
+ * output file is deleted before each invocation, since the transaction skips files whose content would not change.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChangesFileIOBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    private Path directory;
+    private Path changesFile;
+    private Path outputFile;
+    private ChangesFile parsedChangesFile;
+    private final ChangesFileIO changesFileIO = new ChangesFileIO();
+
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Fixtures.createTempDirectory();
+        this.changesFile = Files.writeString(this.directory.resolve("changes_1.0.0.md"),
+                Fixtures.changesFile(this.size));
+        this.outputFile = this.directory.resolve("output.md");
+        this.parsedChangesFile = this.changesFileIO.read(this.changesFile);
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteOutputFile() throws IOException {
+        Files.deleteIfExists(this.outputFile);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.deleteDirectory(this.directory);
+    }
+
+    @Benchmark
+    public ChangesFile read() {
+        return this.changesFileIO.read(this.changesFile);
+    }
+
+    @Benchmark
+    public Set<Path> write() {
+        final var transaction = new FixTransaction();
+        this.changesFileIO.write(this.parsedChangesFile, this.outputFile, transaction);
+        return transaction.commit();
+    }
+}
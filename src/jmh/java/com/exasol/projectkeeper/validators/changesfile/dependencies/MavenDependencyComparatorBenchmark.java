@@ -0,0 +1,34 @@
+package com.exasol.projectkeeper.validators.changesfile.dependencies;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.projectkeeper.benchmark.Fixtures;
+
+/**
+ * Benchmark for {@link MavenDependencyComparator#compare(List, List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MavenDependencyComparatorBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    private List<Dependency> oldDependencies;
+    private List<Dependency> newDependencies;
+    private final MavenDependencyComparator comparator = new MavenDependencyComparator();
+
+    @Setup
+    public void setup() {
+        this.oldDependencies = Fixtures.mavenDependencies(this.size, 0);
+        this.newDependencies = Fixtures.mavenDependencies(this.size, 1);
+    }
+
+    @Benchmark
+    public List<DependencyChange> compare() {
+        return this.comparator.compare(this.oldDependencies, this.newDependencies);
+    }
+}
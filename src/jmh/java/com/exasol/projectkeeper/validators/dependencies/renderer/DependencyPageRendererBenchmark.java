@@ -0,0 +1,39 @@
+package com.exasol.projectkeeper.validators.dependencies.renderer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.projectkeeper.benchmark.Fixtures;
+import com.exasol.projectkeeper.validators.dependencies.ProjectDependency;
+
+/**
+ * Benchmark for {@link DependencyPageRenderer#render(List)} and {@link DependencyPageRenderer#render(List, Writer)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DependencyPageRendererBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    private List<ProjectDependency> dependencies;
+    private final DependencyPageRenderer renderer = new DependencyPageRenderer();
+
+    @Setup
+    public void setup() {
+        this.dependencies = Fixtures.projectDependencies(this.size);
+    }
+
+    @Benchmark
+    public String render() {
+        return this.renderer.render(this.dependencies);
+    }
+
+    @Benchmark
+    public void renderToWriter() throws IOException {
+        this.renderer.render(this.dependencies, Writer.nullWriter());
+    }
+}
@@ -0,0 +1,44 @@
+package com.exasol.projectkeeper.validators.files;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.projectkeeper.benchmark.Fixtures;
+
+/**
+ * Benchmark for {@link InputStreamComparator#areStreamsEqual(java.io.InputStream, java.io.InputStream)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InputStreamComparatorBenchmark {
+    @Param({ "1024", "65536", "1048576" })
+    int size;
+    private byte[] content;
+    private byte[] sameContent;
+    private byte[] differentContent;
+    private final InputStreamComparator comparator = new InputStreamComparator();
+
+    @Setup
+    public void setup() {
+        this.content = Fixtures.bytes(this.size);
+        this.sameContent = this.content.clone();
+        this.differentContent = this.content.clone();
+        this.differentContent[this.size - 1]++;
+    }
+
+    @Benchmark
+    public boolean compareEqualStreams() throws IOException {
+        return this.comparator.areStreamsEqual(new ByteArrayInputStream(this.content),
+                new ByteArrayInputStream(this.sameContent));
+    }
+
+    @Benchmark
+    public boolean compareStreamsDifferingAtEnd() throws IOException {
+        return this.comparator.areStreamsEqual(new ByteArrayInputStream(this.content),
+                new ByteArrayInputStream(this.differentContent));
+    }
+}
@@ -0,0 +1,46 @@
+package com.exasol.projectkeeper.validators.pom;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.exasol.projectkeeper.*;
+import com.exasol.projectkeeper.benchmark.Fixtures;
+import com.exasol.projectkeeper.repository.GitRepository;
+
+/**
+ * Benchmark for {@link PomFileValidator#validate()} on large pom files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PomFileValidatorBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    private Path projectDirectory;
+    private PomFileValidator validator;
+
+    @Setup
+    public void setup() throws IOException {
+        this.projectDirectory = Fixtures.createTempDirectory();
+        final Path pomFile = Files.writeString(this.projectDirectory.resolve("pom.xml"), Fixtures.pom(this.size));
+        final var projectSnapshot = new ProjectSnapshot(this.projectDirectory, pomFile.toFile(), null,
+                new GitRepository(this.projectDirectory));
+        this.validator = new PomFileValidator(Set.of(ProjectKeeperModule.values()), Set.of(), projectSnapshot);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.deleteDirectory(this.projectDirectory);
+    }
+
+    @Benchmark
+    public List<ValidationFinding> validate() {
+        return this.validator.validate();
+    }
+}
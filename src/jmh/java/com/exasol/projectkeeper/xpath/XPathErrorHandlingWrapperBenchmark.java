@@ -0,0 +1,44 @@
+package com.exasol.projectkeeper.xpath;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.*;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import com.exasol.projectkeeper.benchmark.Fixtures;
+
+/**
+ * Benchmark for {@link XPathErrorHandlingWrapper#runXPath(Node, String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XPathErrorHandlingWrapperBenchmark {
+    @Param({ "10", "100", "1000" })
+    int size;
+    private Document pom;
+    private String lastPluginXPath;
+
+    @Setup
+    public void setup() throws Exception {
+        final var documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        this.pom = documentBuilder
+                .parse(new ByteArrayInputStream(Fixtures.pom(this.size).getBytes(StandardCharsets.UTF_8)));
+        this.lastPluginXPath = "/project/build/plugins/plugin[artifactId/text() = 'plugin-" + (this.size - 1) + "']";
+    }
+
+    @Benchmark
+    public Node runSimpleXPath() {
+        return XPathErrorHandlingWrapper.runXPath(this.pom, "/project/build/plugins");
+    }
+
+    @Benchmark
+    public Node runXPathWithPredicate() {
+        return XPathErrorHandlingWrapper.runXPath(this.pom, this.lastPluginXPath);
+    }
+}
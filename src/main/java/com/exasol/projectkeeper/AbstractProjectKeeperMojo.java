@@ -1,25 +1,38 @@
 package com.exasol.projectkeeper;
 
+import java.io.File;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.execution.MavenSession;
-import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.*;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.repository.RepositorySystem;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
 
 import com.exasol.projectkeeper.pom.DefaultMavenProjectFromFileReader;
 import com.exasol.projectkeeper.pom.MavenModelFromRepositoryReader;
+import com.exasol.projectkeeper.profiling.ProfileRecorder;
+import com.exasol.projectkeeper.profiling.ProfileReportWriter;
+import com.exasol.projectkeeper.profiling.Profiler;
+import com.exasol.projectkeeper.report.FindingsReportWriter;
 import com.exasol.projectkeeper.repository.GitRepository;
 import com.exasol.projectkeeper.validators.*;
 import com.exasol.projectkeeper.validators.changesfile.ChangesFileValidator;
 import com.exasol.projectkeeper.validators.dependencies.DependenciesValidator;
+import com.exasol.projectkeeper.validators.dependencies.DependencyMetadataCache;
+import com.exasol.projectkeeper.validators.dependencies.PomMetadataExtractor;
+import com.exasol.projectkeeper.validators.dependencies.ProjectDependencyReader;
+import com.exasol.projectkeeper.validators.dependencies.TransitiveDependencyCollector;
 import com.exasol.projectkeeper.validators.files.ProjectFilesValidator;
 import com.exasol.projectkeeper.validators.pom.PomFileValidator;
 
@@ -43,6 +56,46 @@ public abstract class AbstractProjectKeeperMojo extends AbstractMojo {
     @Parameter(property = "linkReplacements")
     private List<String> linkReplacements;
 
+    @Parameter(property = "project-keeper.validators")
+    private List<String> validators;
+
+    @Parameter(property = "project-keeper.skipValidators")
+    private List<String> skipValidators;
+
+    @Parameter(property = "project-keeper.parallelism", defaultValue = "4")
+    private int parallelism;
+
+    @Parameter(property = "project-keeper.dependencyParallelism", defaultValue = "8")
+    private int dependencyParallelism;
+
+    @Parameter(property = "project-keeper.licenseCache", defaultValue = "true")
+    private boolean licenseCache;
+
+    @Parameter(property = "project-keeper.licenseCacheDirectory", //
+            defaultValue = "${user.home}/.m2/project-keeper/license-cache")
+    private File licenseCacheDirectory;
+
+    @Parameter(property = "project-keeper.licenseCacheSnapshotHours", defaultValue = "24")
+    private int licenseCacheSnapshotHours;
+
+    @Parameter(property = "project-keeper.fastLicenseReading", defaultValue = "true")
+    private boolean fastLicenseReading;
+
+    @Parameter(property = "project-keeper.transitiveDependencies", defaultValue = "false")
+    private boolean transitiveDependencies;
+
+    @Parameter(property = "project-keeper.keepDependencyReferences", defaultValue = "false")
+    private boolean keepDependencyReferences;
+
+    @Parameter(property = "project-keeper.reuseDependenciesFile", defaultValue = "true")
+    private boolean reuseDependenciesFile;
+
+    @Parameter(property = "project-keeper.offline", defaultValue = "${settings.offline}")
+    private boolean offline;
+
+    @Parameter(property = "project-keeper.profile", defaultValue = "false")
+    private boolean profile;
+
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject project;
 
@@ -55,6 +108,76 @@ public abstract class AbstractProjectKeeperMojo extends AbstractMojo {
     @Component
     RepositorySystem repositorySystem;
 
+    @Component
+    private org.eclipse.aether.RepositorySystem resolver;
+
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    private MojoExecution mojoExecution;
+
+    private GitRepository gitRepository;
+
+    @Override
+    public final void execute() throws MojoExecutionException, MojoFailureException {
+        try {
+            if (this.profile) {
+                final ProfileRecorder recorder = Profiler.start();
+                try {
+                    runGoal();
+                } finally {
+                    Profiler.stop();
+                    reportProfile(recorder);
+                }
+            } else {
+                runGoal();
+            }
+        } finally {
+            closeGitRepository();
+        }
+    }
+
+    /**
+     * Run the goal of this Mojo.
+     *
+     * @throws MojoExecutionException if an unexpected problem occurs
+     * @throws MojoFailureException   if the validation failed
+     */
+    protected abstract void runGoal() throws MojoExecutionException, MojoFailureException;
+
+    // The profile is written and logged even if the goal failed, since slow failing runs are the interesting ones.
+    private void reportProfile(final ProfileRecorder recorder) {
+        final var reportWriter = new ProfileReportWriter();
+        final Path reportFile = getOutputDirectory().resolve("profile.json");
+        reportWriter.writeJson(reportFile, getGoal(), recorder);
+        final Log log = getLog();
+        log.info("Project-keeper profile (written to " + reportFile + "):");
+        reportWriter.formatTable(recorder).forEach(log::info);
+    }
+
+    private String getGoal() {
+        return this.mojoExecution == null ? "unknown" : this.mojoExecution.getGoal();
+    }
+
+    /**
+     * Open the machine-readable findings report of this goal.
+     * <p>
+     * The report is written to {@code target/project-keeper/findings.jsonl}.
+     * </p>
+     *
+     * @return report writer; the caller must close it
+     */
+    protected FindingsReportWriter openFindingsReport() {
+        return FindingsReportWriter.open(getOutputDirectory().resolve("findings.jsonl"), getGoal());
+    }
+
+    /**
+     * Get the directory for files that project-keeper generates during the build.
+     *
+     * @return output directory
+     */
+    protected Path getOutputDirectory() {
+        return Path.of(this.project.getBuild().getDirectory(), "project-keeper");
+    }
+
     /**
      * Get a list of enabled modules.
      * 
@@ -73,28 +196,142 @@ public abstract class AbstractProjectKeeperMojo extends AbstractMojo {
     }
 
     /**
-     * Get a list of {@link Validator}s.
+     * Get a {@link ValidationRunner} that runs the validators with the configured parallelism.
+     * <p>
+     * Configure using {@code <parallelism></parallelism>} in the pom file or {@code -Dproject-keeper.parallelism}.
+     * </p>
+     *
+     * @return validation runner
+     */
+    protected ValidationRunner getValidationRunner() {
+        return new ValidationRunner(this.parallelism);
+    }
+
+    /**
+     * Get the absolute path of the project's pom file.
+     *
+     * @return path of the pom file
+     */
+    protected Path getPomFile() {
+        return this.project.getModel().getPomFile().toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Get a list of the selected {@link Validator}s.
+     * <p>
+     * Configure using {@code <validators></validators>} and {@code <skipValidators></skipValidators>} in the pom file
+     * or {@code -Dproject-keeper.validators} and {@code -Dproject-keeper.skipValidators}. Only the selected validators
+     * are created, so that skipped validators don't open the git repository or access the network.
+     * </p>
      * 
      * @return list of {@link Validator}s
      */
     protected List<Validator> getValidators() {
+        return getValidators(getPomFile());
+    }
+
+    /**
+     * Get a list of the selected {@link Validator}s that read the content of the pom file from a different file.
+     * <p>
+     * The validators still report and fix findings for the project's pom file.
+     * </p>
+     *
+     * @param pomContentFile file to read the content of the pom file from, must be in the same directory as the pom
+     * @return list of {@link Validator}s
+     */
+    protected List<Validator> getValidators(final Path pomContentFile) {
+        final var selection = new ValidatorSelection(this.validators, this.skipValidators);
+        return getValidatorFactories(pomContentFile).entrySet().stream()
+                .filter(entry -> selection.isSelected(entry.getKey())).map(entry -> entry.getValue().get())
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Supplier<Validator>> getValidatorFactories(final Path pomContentFile) {
         final Path projectDir = this.project.getBasedir().toPath();
-        final GitRepository gitRepository = new GitRepository(projectDir);
+        final GitRepository gitRepository = getGitRepository();
         final var brokenLinkReplacer = new BrokenLinkReplacer(this.linkReplacements);
         final Set<ProjectKeeperModule> enabledModules = getEnabledModules();
         final var excludedFilesMatcher = new ExcludedFilesMatcher(this.excludedFiles);
         final var mavenModelReader = new DefaultMavenProjectFromFileReader(this.mavenProjectBuilder, this.session);
         final MavenModelFromRepositoryReader artifactReader = new MavenModelFromRepositoryReader(
                 this.mavenProjectBuilder, this.session, this.repositorySystem);
-        final var pomFile = this.project.getModel().getPomFile();
-        return List.of(new ProjectFilesValidator(enabledModules, this.project.getBasedir(), excludedFilesMatcher),
-                new ReadmeFileValidator(projectDir, this.project.getName(), this.project.getArtifactId(),
-                        gitRepository.getRepoNameFromRemote().orElse(this.project.getArtifactId()), enabledModules),
-                new LicenseFileValidator(projectDir),
-                new PomFileValidator(enabledModules, this.excludedPlugins, pomFile),
-                new ChangesFileValidator(this.project.getVersion(), this.project.getName(), projectDir,
-                        mavenModelReader),
-                new DependenciesValidator(mavenModelReader, artifactReader, pomFile, projectDir, brokenLinkReplacer),
-                new DeletedFilesValidator(projectDir, excludedFilesMatcher));
+        final var projectSnapshot = new ProjectSnapshot(projectDir, this.project.getModel().getPomFile(),
+                pomContentFile.toFile(), mavenModelReader, gitRepository);
+        final Map<String, Supplier<Validator>> factories = new LinkedHashMap<>();
+        factories.put(ValidatorSelection.FILES,
+                () -> new ProjectFilesValidator(enabledModules, this.project.getBasedir(), excludedFilesMatcher));
+        factories.put(ValidatorSelection.README,
+                () -> new ReadmeFileValidator(projectDir, this.project.getName(), this.project.getArtifactId(),
+                        gitRepository.getRepoNameFromRemote().orElse(this.project.getArtifactId()), enabledModules));
+        factories.put(ValidatorSelection.LICENSE, () -> new LicenseFileValidator(projectDir));
+        factories.put(ValidatorSelection.POM,
+                () -> new PomFileValidator(enabledModules, this.excludedPlugins, projectSnapshot));
+        factories.put(ValidatorSelection.CHANGES,
+                () -> new ChangesFileValidator(this.project.getVersion(), this.project.getName(), projectSnapshot));
+        factories.put(ValidatorSelection.DEPENDENCIES,
+                () -> new DependenciesValidator(projectSnapshot, getProjectDependencyReader(artifactReader),
+                        brokenLinkReplacer, this.keepDependencyReferences));
+        factories.put(ValidatorSelection.DELETED_FILES,
+                () -> new DeletedFilesValidator(projectDir, excludedFilesMatcher));
+        return factories;
+    }
+
+    /**
+     * Get the git repository of the project.
+     * <p>
+     * All validators of this mojo execution share the same instance, so that the repository is only opened once. It's
+     * closed at the end of {@link #execute()}. The tags of the current branch are persisted in
+     * {@code target/project-keeper/tag-index.properties}.
+     * </p>
+     *
+     * @return git repository
+     */
+    private synchronized GitRepository getGitRepository() {
+        if (this.gitRepository == null) {
+            this.gitRepository = new GitRepository(this.project.getBasedir().toPath(),
+                    getOutputDirectory().resolve("tag-index.properties"));
+        }
+        return this.gitRepository;
+    }
+
+    private synchronized void closeGitRepository() {
+        if (this.gitRepository != null) {
+            this.gitRepository.close();
+            this.gitRepository = null;
+        }
+    }
+
+    /**
+     * Get the reader for the dependencies and their licenses.
+     * <p>
+     * Configure the license cache using {@code <licenseCache>}, {@code <licenseCacheDirectory>} and
+     * {@code <licenseCacheSnapshotHours>} and the lightweight pom reader using {@code <fastLicenseReading>} in the pom
+     * file. In offline mode ({@code mvn -o} or {@code <offline>}) the reader always uses the lightweight pom reader and
+     * never accesses remote repositories. {@code <reuseDependenciesFile>} controls whether the reader reuses the
+     * licenses from the existing dependencies.md file and {@code <transitiveDependencies>} whether it also reads the
+     * transitive dependencies that the project ships.
+     * </p>
+     *
+     * @param artifactReader reader for models from the maven repository
+     * @return dependency reader
+     */
+    private ProjectDependencyReader getProjectDependencyReader(final MavenModelFromRepositoryReader artifactReader) {
+        final ProjectDependencyReader.Builder builder = ProjectDependencyReader.builder(artifactReader)
+                .parallelism(this.dependencyParallelism);
+        if (this.licenseCache) {
+            builder.metadataCache(new DependencyMetadataCache(this.licenseCacheDirectory.toPath(),
+                    Duration.ofHours(this.licenseCacheSnapshotHours)));
+        }
+        if (this.fastLicenseReading || this.offline) {
+            builder.pomMetadataExtractor(new PomMetadataExtractor(
+                    this.session.getRepositorySession().getLocalRepository().getBasedir().toPath()));
+        }
+        if (this.transitiveDependencies) {
+            final RepositorySystemSession repositorySession = this.offline
+                    ? new DefaultRepositorySystemSession(this.session.getRepositorySession()).setOffline(true)
+                    : this.session.getRepositorySession();
+            builder.transitiveDependencyCollector(new TransitiveDependencyCollector(this.resolver, repositorySession));
+        }
+        return builder.offline(this.offline).reuseKnownMetadata(this.reuseDependenciesFile).build();
     }
 }
@@ -1,5 +1,8 @@
 package com.exasol.projectkeeper;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 import com.exasol.errorreporting.ExaError;
@@ -56,6 +59,45 @@ public class BrokenLinkReplacer {
         }
     }
 
+    /**
+     * Get all replacements, including the built in ones.
+     * 
+     * @return replacement links by lower case original link, sorted by original link
+     */
+    public SortedMap<String, String> getReplacements() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(this.replacements));
+    }
+
+    /**
+     * Get a fingerprint of all replacements, including the built in ones.
+     * <p>
+     * The fingerprint changes whenever a replacement is added, changed or removed.
+     * </p>
+     *
+     * @return SHA-256 fingerprint as hex string
+     */
+    public String getFingerprint() {
+        final MessageDigest digest = createDigest();
+        for (final Map.Entry<String, String> replacement : getReplacements().entrySet()) {
+            final String line = replacement.getKey() + "|" + replacement.getValue() + "\n";
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+        }
+        final var hex = new StringBuilder();
+        for (final byte each : digest.digest()) {
+            hex.append(String.format("%02x", each));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-PK-90")
+                    .message("Failed to create SHA-256 digest.").ticketMitigation().toString(), exception);
+        }
+    }
+
     /**
      * Get an replacement for a link in cast it's known as broken. Otherwise get the original link.
      * 
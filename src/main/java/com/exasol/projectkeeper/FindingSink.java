@@ -0,0 +1,33 @@
+package com.exasol.projectkeeper;
+
+/**
+ * Receiver for the {@link ValidationFinding}s of a validation run, for example the log, a report file or the fix
+ * applier.
+ * <p>
+ * The {@link ValidationRunner} calls a sink sequentially, never concurrently, and in the order of the validators. So
+ * implementations don't need to be thread-safe.
+ * </p>
+ */
+@FunctionalInterface
+public interface FindingSink {
+    /**
+     * Accept a finding.
+     *
+     * @param validator validator that reported the finding
+     * @param finding   reported finding
+     */
+    void accept(Validator validator, ValidationFinding finding);
+
+    /**
+     * Get a sink that passes each finding first to this and then to the other sink.
+     *
+     * @param other sink to call after this one
+     * @return combined sink
+     */
+    default FindingSink andThen(final FindingSink other) {
+        return (validator, finding) -> {
+            accept(validator, finding);
+            other.accept(validator, finding);
+        };
+    }
+}
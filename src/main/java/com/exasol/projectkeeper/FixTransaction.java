@@ -0,0 +1,171 @@
+package com.exasol.projectkeeper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class collects the file changes of {@link ValidationFinding.Fix}es and writes them in one go.
+ * <p>
+ * Fixes don't write to disk directly but stage their changes here. Multiple changes of the same file are merged, so
+ * that only the last one is written. On {@link #commit()} the transaction skips files whose content would not change
+ * and replaces the others using a temporary file and an atomic rename. Since nothing is written before the commit, a
+ * fix that fails does not leave a half-fixed project behind.
+ * </p>
+ * <p>
+ * This class is not thread-safe. Fixes are applied sequentially.
+ * </p>
+ */
+public class FixTransaction {
+    private static final String TEMP_FILE_SUFFIX = ".pk-tmp";
+    private final Map<Path, Optional<byte[]>> stagedChanges = new LinkedHashMap<>();
+
+    /**
+     * Stage writing a file. Missing parent directories are created on commit.
+     *
+     * @param file    file to write
+     * @param content new content of the file
+     */
+    public void writeFile(final Path file, final byte[] content) {
+        this.stagedChanges.put(normalize(file), Optional.of(content));
+    }
+
+    /**
+     * Stage writing a file with UTF-8 encoded content.
+     *
+     * @param file    file to write
+     * @param content new content of the file
+     */
+    public void writeFile(final Path file, final String content) {
+        writeFile(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stage deleting a file. Deleting a file that does not exist has no effect.
+     *
+     * @param file file to delete
+     */
+    public void deleteFile(final Path file) {
+        this.stagedChanges.put(normalize(file), Optional.empty());
+    }
+
+    /**
+     * Check if there are staged changes.
+     *
+     * @return {@code true} if nothing is staged
+     */
+    public boolean isEmpty() {
+        return this.stagedChanges.isEmpty();
+    }
+
+    /**
+     * Get the staged content of a file if it differs from the content on disk.
+     *
+     * @param file file to check
+     * @return staged content or empty if the file is not staged for writing or the content would not change
+     */
+    public Optional<byte[]> getChangedContent(final Path file) {
+        final Path normalizedFile = normalize(file);
+        return this.stagedChanges.getOrDefault(normalizedFile, Optional.empty())
+                .filter(content -> !hasContent(normalizedFile, content));
+    }
+
+    private static Path normalize(final Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Write all staged changes to disk.
+     * <p>
+     * The transaction first writes all new contents to temporary files next to their targets. Only if that succeeded
+     * for all files, it moves them in place. That keeps the window in which a failure leaves a partially fixed project
+     * as small as possible.
+     * </p>
+     *
+     * @return files that were actually changed
+     */
+    public Set<Path> commit() {
+        final Map<Path, Path> pendingMoves = new LinkedHashMap<>();
+        final Set<Path> changedFiles = new LinkedHashSet<>();
+        try {
+            for (final Map.Entry<Path, Optional<byte[]>> change : this.stagedChanges.entrySet()) {
+                final Path file = change.getKey();
+                final Optional<byte[]> content = change.getValue();
+                if (content.isPresent() && !hasContent(file, content.get())) {
+                    pendingMoves.put(writeTemporaryFile(file, content.get()), file);
+                }
+            }
+            for (final Map.Entry<Path, Optional<byte[]>> change : this.stagedChanges.entrySet()) {
+                if (change.getValue().isEmpty() && delete(change.getKey())) {
+                    changedFiles.add(change.getKey());
+                }
+            }
+            for (final Map.Entry<Path, Path> move : pendingMoves.entrySet()) {
+                moveInPlace(move.getKey(), move.getValue());
+                changedFiles.add(move.getValue());
+            }
+            this.stagedChanges.clear();
+            return changedFiles;
+        } finally {
+            pendingMoves.keySet().forEach(FixTransaction::deleteTemporaryFile);
+        }
+    }
+
+    private static boolean hasContent(final Path file, final byte[] content) {
+        try {
+            return Files.isRegularFile(file) && Files.size(file) == content.length
+                    && Arrays.equals(Files.readAllBytes(file), content);
+        } catch (final IOException exception) {
+            return false;
+        }
+    }
+
+    private static Path writeTemporaryFile(final Path file, final byte[] content) {
+        try {
+            final Path directory = file.getParent();
+            Files.createDirectories(directory);
+            final Path temporaryFile = Files.createTempFile(directory, "." + file.getFileName(), TEMP_FILE_SUFFIX);
+            Files.write(temporaryFile, content);
+            return temporaryFile;
+        } catch (final IOException exception) {
+            throw getWriteFailedException(file, exception);
+        }
+    }
+
+    private static void moveInPlace(final Path temporaryFile, final Path file) {
+        try {
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException exception) {
+            throw getWriteFailedException(file, exception);
+        }
+    }
+
+    private static IllegalStateException getWriteFailedException(final Path file, final IOException exception) {
+        return new IllegalStateException(ExaError.messageBuilder("E-PK-76").message("Failed to write {{file}}.", file)
+                .mitigation("Check the file permissions.").toString(), exception);
+    }
+
+    private static boolean delete(final Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-27").message("Failed to delete {{FILE}}.")
+                    .parameter("FILE", file).mitigation("Check file permissions.").toString(), exception);
+        }
+    }
+
+    private static void deleteTemporaryFile(final Path temporaryFile) {
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (final IOException exception) {
+            // the temporary file is only garbage; failing to delete it must not hide the original problem
+        }
+    }
+}
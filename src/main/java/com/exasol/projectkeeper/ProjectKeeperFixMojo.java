@@ -1,13 +1,14 @@
 package com.exasol.projectkeeper;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.pom.TemporaryPomFile;
+import com.exasol.projectkeeper.profiling.Profiler;
 
 /**
  * Entry point for the fix goal.
@@ -19,16 +20,25 @@ import com.exasol.errorreporting.ExaError;
 // [impl->dsn~mvn-fix-goal~1]
 public class ProjectKeeperFixMojo extends AbstractProjectKeeperMojo {
     @Override
-    public void execute() throws MojoExecutionException, MojoFailureException {
+    protected void runGoal() throws MojoExecutionException, MojoFailureException {
         final var log = getLog();
-        final List<ValidationFinding> unfixedFindings = new ArrayList<>();
-        getValidators().forEach(validator -> validator.validate().forEach(finding -> {
-            if (finding.hasFix()) {
-                finding.getFix().fixError(log);
-            } else {
-                unfixedFindings.add(finding);
+        final var transaction = new FixTransaction();
+        List<ValidationFinding> unfixedFindings;
+        try (final var report = openFindingsReport()) {
+            unfixedFindings = applyFixes(getValidators(), transaction, report);
+        }
+        final Optional<byte[]> fixedPom = transaction.getChangedContent(getPomFile());
+        if (fixedPom.isPresent()) {
+            // Some validators read the pom file. They need to run again on the fixed pom. The fixed pom is not written
+            // yet, so they read it from a temporary copy and stage their fixes in the same transaction.
+            try (final var stagedPom = new TemporaryPomFile(getPomFile().getParent(), fixedPom.get())) {
+                unfixedFindings = applyFixes(getValidators(stagedPom.getPomFile()), transaction,
+                        (validator, finding) -> {
+                            // The report lists the findings of the first pass. These are the ones this goal fixed.
+                        });
             }
-        }));
+        }
+        Profiler.measure("commit fixes", transaction::commit);
         for (final ValidationFinding unfixedFinding : unfixedFindings) {
             log.warn(ExaError.messageBuilder("W-PK-67")
                     .message("Could not auto-fix: {{finding message|uq}}", unfixedFinding.getMessage()).toString());
@@ -39,4 +49,28 @@ public class ProjectKeeperFixMojo extends AbstractProjectKeeperMojo {
                     .toString());
         }
     }
+
+    /**
+     * Run the validators and stage their fixes in the given {@link FixTransaction}.
+     *
+     * @param validators  validators to run
+     * @param transaction transaction for the file changes
+     * @param reportSink  sink that receives all findings for the findings report
+     * @return findings that have no fix
+     */
+    private List<ValidationFinding> applyFixes(final List<Validator> validators, final FixTransaction transaction,
+            final FindingSink reportSink) {
+        final var log = getLog();
+        final List<ValidationFinding> unfixedFindings = new ArrayList<>();
+        // The fixes are staged as soon as a validator reports the finding.
+        new ValidationRunner(1).run(validators, (validator, finding) -> {
+            reportSink.accept(validator, finding);
+            if (finding.hasFix()) {
+                finding.getFix().fixError(log, transaction);
+            } else {
+                unfixedFindings.add(finding);
+            }
+        });
+        return unfixedFindings;
+    }
 }
@@ -1,14 +1,17 @@
 package com.exasol.projectkeeper;
 
+import java.nio.file.Path;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.incremental.IncrementalValidationCache;
 
 /**
  * Entry point for the verify goal.
@@ -22,15 +25,57 @@ public class ProjectKeeperVerifyMojo extends AbstractProjectKeeperMojo {
 
     private static final String INVALID_STRUCTURE_MESSAGE = "This projects structure does not conform with the template.";
 
+    @Parameter(property = "project-keeper.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    @Parameter(property = "project-keeper.failFast", defaultValue = "false")
+    private boolean failFast;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor pluginDescriptor;
+
     @Override
-    public void execute() throws MojoFailureException {
-        final List<ValidationFinding> findings = getValidators().stream()
-                .flatMap(validator -> validator.validate().stream()).collect(Collectors.toList());
+    protected void runGoal() throws MojoFailureException {
         final Log log = getLog();
-        findings.forEach(finding -> log.error(finding.getMessage()));
-        final boolean hasFindingsWithFix = findings.stream().anyMatch(ValidationFinding::hasFix);
-        final boolean hasFindingsWithoutFix = findings.stream().anyMatch(finding -> !finding.hasFix());
-        failIfValidationFailed(hasFindingsWithFix, hasFindingsWithoutFix);
+        final var counter = new FindingCounter();
+        final FindingSink logSink = (validator, finding) -> log.error(finding.getMessage());
+        try (final var report = openFindingsReport()) {
+            final FindingSink sink = logSink.andThen(counter).andThen(report);
+            if (this.incremental) {
+                runIncremental(sink);
+            } else {
+                runValidators(getValidators(), sink);
+            }
+        }
+        failIfValidationFailed(counter.hasFindingsWithFix, counter.hasFindingsWithoutFix);
+    }
+
+    private void runIncremental(final FindingSink sink) {
+        final Path cacheFile = getOutputDirectory().resolve("fingerprints.properties");
+        final var cache = IncrementalValidationCache.load(cacheFile, getPluginIdentity());
+        runValidators(cache.wrap(getValidators()), sink);
+        cache.save();
+    }
+
+    private void runValidators(final List<Validator> validators, final FindingSink sink) {
+        if (this.failFast) {
+            final var counter = new FindingCounter();
+            getValidationRunner().runFailFast(validators, sink.andThen(counter));
+            if (counter.hasFindings()) {
+                getLog().info("Fail-fast mode: Stopped validation after the first validator that reported findings.");
+            }
+        } else {
+            getValidationRunner().run(validators, sink);
+        }
+    }
+
+    private String getPluginIdentity() {
+        final var pluginArtifact = this.pluginDescriptor.getPluginArtifact();
+        if (pluginArtifact != null && pluginArtifact.getFile() != null) {
+            return this.pluginDescriptor.getVersion() + "@" + pluginArtifact.getFile().lastModified();
+        } else {
+            return this.pluginDescriptor.getVersion();
+        }
     }
 
     private void failIfValidationFailed(final boolean hasFindingsWithFix, final boolean hasFindingsWithoutFix)
@@ -49,4 +94,25 @@ public class ProjectKeeperVerifyMojo extends AbstractProjectKeeperMojo {
                     .mitigation("Please fix it manually.").toString());
         }
     }
+
+    /**
+     * {@link FindingSink} that remembers which kinds of findings it received.
+     */
+    private static class FindingCounter implements FindingSink {
+        private boolean hasFindingsWithFix = false;
+        private boolean hasFindingsWithoutFix = false;
+
+        @Override
+        public void accept(final Validator validator, final ValidationFinding finding) {
+            if (finding.hasFix()) {
+                this.hasFindingsWithFix = true;
+            } else {
+                this.hasFindingsWithoutFix = true;
+            }
+        }
+
+        private boolean hasFindings() {
+            return this.hasFindingsWithFix || this.hasFindingsWithoutFix;
+        }
+    }
 }
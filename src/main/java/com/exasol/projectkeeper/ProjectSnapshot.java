@@ -0,0 +1,259 @@
+package com.exasol.projectkeeper;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.w3c.dom.Document;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.pom.TemporaryPomFile;
+import com.exasol.projectkeeper.profiling.Profiler;
+import com.exasol.projectkeeper.repository.GitRepository;
+import com.exasol.projectkeeper.validators.changesfile.LastReleasePomFileReader;
+import com.exasol.projectkeeper.validators.pom.PomFileIO;
+
+/**
+ * This class holds the parsed inputs of one project-keeper run.
+ * <p>
+ * Parsing the pom file with Maven's project builder is the most expensive thing the validators do besides network
+ * access. For that the snapshot parses each input at most once and shares the result with all validators. All inputs
+ * are read lazily on the first access, so validators that are disabled don't cause any parsing.
+ * </p>
+ * <p>
+ * This class is thread-safe. The parsed inputs are never handed out directly. The getters return copies of the pom
+ * {@link Document}, the {@link MavenProject} and the {@link Model}, so that a validator that changes them, for example
+ * the {@link com.exasol.projectkeeper.validators.pom.PomFileValidator} when it applies its fixes, does not affect the
+ * other validators.
+ * </p>
+ */
+public class ProjectSnapshot {
+    private final Path projectDirectory;
+    private final File pomFile;
+    private final File pomContentFile;
+    private final GitRepository gitRepository;
+    private final MavenProjectFromFileReader mavenProjectReader;
+    private final Lazy<Document> pomDocument;
+    private final Lazy<MavenProject> mavenProject;
+    private final Lazy<Optional<Model>> previousReleaseModel;
+
+    /**
+     * Create a new instance of {@link ProjectSnapshot}.
+     *
+     * @param projectDirectory   project's root directory
+     * @param pomFile            project's pom file
+     * @param mavenProjectReader reader for maven projects
+     * @param gitRepository      project's git repository
+     */
+    public ProjectSnapshot(final Path projectDirectory, final File pomFile,
+            final MavenProjectFromFileReader mavenProjectReader, final GitRepository gitRepository) {
+        this(projectDirectory, pomFile, pomFile, mavenProjectReader, gitRepository);
+    }
+
+    /**
+     * Create a new instance of {@link ProjectSnapshot} that reads the content of the pom file from a different file.
+     * <p>
+     * The fix goal uses this to validate the fixed pom file before it's written. The content file must be in the same
+     * directory as the pom file, so that relative paths like the parent pom are resolved the same way.
+     * </p>
+     *
+     * @param projectDirectory   project's root directory
+     * @param pomFile            project's pom file
+     * @param pomContentFile     file to read the content of the pom file from
+     * @param mavenProjectReader reader for maven projects
+     * @param gitRepository      project's git repository
+     */
+    public ProjectSnapshot(final Path projectDirectory, final File pomFile, final File pomContentFile,
+            final MavenProjectFromFileReader mavenProjectReader, final GitRepository gitRepository) {
+        this.projectDirectory = projectDirectory;
+        this.pomFile = pomFile;
+        this.pomContentFile = pomContentFile;
+        this.mavenProjectReader = mavenProjectReader;
+        this.gitRepository = gitRepository;
+        this.pomDocument = new Lazy<>(() -> PomFileIO.parsePomFile(this.pomContentFile));
+        this.mavenProject = new Lazy<>(this::readMavenProject);
+        this.previousReleaseModel = new Lazy<>(this::readPreviousReleaseModel);
+    }
+
+    /**
+     * Get the project's root directory.
+     *
+     * @return project's root directory
+     */
+    public Path getProjectDirectory() {
+        return this.projectDirectory;
+    }
+
+    /**
+     * Get the project's pom file.
+     *
+     * @return pom file
+     */
+    public File getPomFile() {
+        return this.pomFile;
+    }
+
+    /**
+     * Get the project's git repository.
+     *
+     * @return git repository
+     */
+    public GitRepository getGitRepository() {
+        return this.gitRepository;
+    }
+
+    /**
+     * Get the XML content of the pom file.
+     *
+     * @return copy of the parsed pom file
+     */
+    public Document getPomDocument() {
+        final Document document = this.pomDocument.get();
+        // Xerces DOM is not thread-safe, not even for reads. Validators run in parallel, so the copies are made one
+        // at a time.
+        synchronized (document) {
+            return (Document) document.cloneNode(true);
+        }
+    }
+
+    /**
+     * Get the maven project built from the pom file.
+     *
+     * @return copy of the maven project
+     */
+    public MavenProject getMavenProject() {
+        try {
+            return (MavenProject) this.mavenProject.get().clone();
+        } catch (final CloneNotSupportedException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-PK-92")
+                    .message("Failed to copy the maven project.").ticketMitigation().toString(), exception);
+        }
+    }
+
+    /**
+     * Get the effective maven model of the pom file.
+     *
+     * @return copy of the maven model
+     */
+    public Model getMavenModel() {
+        return this.mavenProject.get().getModel().clone();
+    }
+
+    /**
+     * Get the maven model of the previous release on the current branch.
+     *
+     * @return maven model of the previous release or empty if there was no previous release
+     */
+    public Optional<Model> getPreviousReleaseModel() {
+        return this.previousReleaseModel.get().map(Model::clone);
+    }
+
+    /**
+     * Get the pom files of the parent projects.
+     * <p>
+     * The effective model contains the content of the parent poms. So validators that read the effective model must
+     * declare these files as inputs, too. Parents that were read from a repository are pom files in the local
+     * repository.
+     * </p>
+     *
+     * @return pom files of the parent projects, starting with the direct parent
+     */
+    public List<Path> getParentPomFiles() {
+        final List<Path> parentPomFiles = new ArrayList<>();
+        for (MavenProject parent = this.mavenProject.get().getParent(); parent != null; parent = parent.getParent()) {
+            if (parent.getFile() != null) {
+                parentPomFiles.add(parent.getFile().toPath());
+            }
+        }
+        return parentPomFiles;
+    }
+
+    /**
+     * Get the coordinates of the BOMs that the project and its parents import in their dependency management.
+     * <p>
+     * The coordinates are taken from the pom files as they are, so versions can contain property references. The
+     * properties are defined in the pom file or in one of the {@link #getParentPomFiles() parent pom files}.
+     * </p>
+     *
+     * @return coordinates ({@code groupId:artifactId:version}) of the imported BOMs
+     */
+    public List<String> getImportedBoms() {
+        final List<String> importedBoms = new ArrayList<>();
+        for (MavenProject project = this.mavenProject.get(); project != null; project = project.getParent()) {
+            final Model originalModel = project.getOriginalModel();
+            if (originalModel != null && originalModel.getDependencyManagement() != null) {
+                for (final Dependency dependency : originalModel.getDependencyManagement().getDependencies()) {
+                    if ("import".equals(dependency.getScope())) {
+                        importedBoms.add(dependency.getGroupId() + ":" + dependency.getArtifactId() + ":"
+                                + dependency.getVersion());
+                    }
+                }
+            }
+        }
+        return importedBoms;
+    }
+
+    private MavenProject readMavenProject() {
+        try {
+            return Profiler.measure("read maven project",
+                    () -> this.mavenProjectReader.readProject(this.pomContentFile));
+        } catch (final MavenProjectFromFileReader.ReadFailedException exception) {
+            throw new IllegalStateException(
+                    ExaError.messageBuilder("E-PK-42").message("Failed to parse current pom file.").toString(),
+                    exception);
+        }
+    }
+
+    private Optional<Model> readPreviousReleaseModel() {
+        // The old pom file is streamed into the temporary file without loading it into memory.
+        return new LastReleasePomFileReader()
+                .readLatestReleasesPomFile(this.gitRepository, this.mavenProject.get().getModel().getVersion(),
+                        TemporaryPomFile::new)
+                .map(this::parseOldPomFile);
+    }
+
+    private Model parseOldPomFile(final TemporaryPomFile oldPomFile) {
+        try (final var temporaryPomFile = oldPomFile) {
+            return this.mavenProjectReader.readProject(temporaryPomFile.getPomFile().toFile()).getModel();
+        } catch (final MavenProjectFromFileReader.ReadFailedException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-38")
+                    .message("Failed to parse pom file of previous release.").toString(), exception);
+        }
+    }
+
+    /**
+     * Thread-safe, memoizing wrapper for a {@link Supplier}.
+     * <p>
+     * If the supplier throws an exception, nothing is memoized and the next call tries again.
+     * </p>
+     *
+     * @param <T> type of the value
+     */
+    private static final class Lazy<T> {
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        private Lazy(final Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private T get() {
+            T result = this.value;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.value;
+                    if (result == null) {
+                        result = this.supplier.get();
+                        this.value = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
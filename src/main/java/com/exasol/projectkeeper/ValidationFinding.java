@@ -1,6 +1,8 @@
 package com.exasol.projectkeeper;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.apache.maven.plugin.logging.Log;
 
@@ -10,16 +12,19 @@ import org.apache.maven.plugin.logging.Log;
 public class ValidationFinding {
     private final String message;
     private final Fix fix;
+    private final Path file;
 
     /**
      * Create a new instance of {@link ValidationFinding}.
      *
      * @param message error message
      * @param fix     function that fixes the error.
+     * @param file    affected file or {@code null}
      */
-    private ValidationFinding(final String message, final Fix fix) {
+    private ValidationFinding(final String message, final Fix fix, final Path file) {
         this.message = message;
         this.fix = fix;
+        this.file = file;
     }
 
     /**
@@ -37,7 +42,7 @@ public class ValidationFinding {
      * @return function that fixes the error
      */
     public Fix getFix() {
-        return Objects.requireNonNullElseGet(this.fix, () -> log -> {
+        return Objects.requireNonNullElseGet(this.fix, () -> (log, transaction) -> {
         });
     }
 
@@ -50,6 +55,30 @@ public class ValidationFinding {
         return this.fix != null;
     }
 
+    /**
+     * Get the file that this finding refers to.
+     * 
+     * @return path of the affected file relative to the project directory or empty if the finding does not refer to a
+     *         single file
+     */
+    public Optional<Path> getFile() {
+        return Optional.ofNullable(this.file);
+    }
+
+    /**
+     * Get a copy of this finding that refers to the given file, unless this finding already refers to a file.
+     * 
+     * @param defaultFile path of the affected file relative to the project directory
+     * @return finding that refers to a file
+     */
+    public ValidationFinding withDefaultFile(final Path defaultFile) {
+        if (this.file == null) {
+            return new ValidationFinding(this.message, this.fix, defaultFile);
+        } else {
+            return this;
+        }
+    }
+
     /**
      * Functional interface for a method that fixes the finding.
      */
@@ -57,10 +86,25 @@ public class ValidationFinding {
     public interface Fix {
         /**
          * Fix the error described in {@link ValidationFinding}.
+         * <p>
+         * Fixes must not write files directly but stage the changes in the given {@link FixTransaction}.
+         * </p>
+         * 
+         * @param log         Logger for log messages
+         * @param transaction transaction that collects the file changes
+         */
+        void fixError(Log log, FixTransaction transaction);
+
+        /**
+         * Fix the error described in {@link ValidationFinding} and write the changes to disk immediately.
          * 
          * @param log Logger for log messages
          */
-        void fixError(Log log);
+        default void fixError(final Log log) {
+            final var transaction = new FixTransaction();
+            fixError(log, transaction);
+            transaction.commit();
+        }
     }
 
     /**
@@ -79,6 +123,7 @@ public class ValidationFinding {
     public static class Builder {
         private final String message;
         private Fix fix;
+        private Path file;
 
         private Builder(final String message) {
             this.message = message;
@@ -98,13 +143,24 @@ public class ValidationFinding {
             return this;
         }
 
+        /**
+         * Set the file that the finding refers to.
+         * 
+         * @param file path of the affected file relative to the project directory
+         * @return self for fluent programming
+         */
+        public Builder file(final Path file) {
+            this.file = file;
+            return this;
+        }
+
         /**
          * Build the {@link ValidationFinding}.
          * 
          * @return built {@link ValidationFinding}
          */
         public ValidationFinding build() {
-            return new ValidationFinding(this.message, this.fix);
+            return new ValidationFinding(this.message, this.fix, this.file);
         }
     }
 }
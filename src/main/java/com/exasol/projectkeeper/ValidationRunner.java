@@ -0,0 +1,294 @@
+package com.exasol.projectkeeper;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.profiling.Profiler;
+
+/**
+ * This class runs a list of {@link Validator}s.
+ * <p>
+ * The validators are independent of each other. For that the runner executes them concurrently on a bounded thread
+ * pool. That way the slow, network-bound validators overlap with the fast ones instead of queueing in front or behind
+ * them. The findings are passed to the {@link FindingSink} in the order of the given validators, so the result does not
+ * depend on the thread scheduling. The findings of the first validator stream to the sink while it runs. The findings
+ * of the other validators are held back until all validators before them finished.
+ * </p>
+ */
+public class ValidationRunner {
+    private final int parallelism;
+
+    /**
+     * Create a new instance of {@link ValidationRunner}.
+     *
+     * @param parallelism maximum number of validators that run at the same time. Use 1 for sequential execution.
+     */
+    public ValidationRunner(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-PK-69")
+                    .message("Invalid parallelism {{parallelism}}. The parallelism must be at least 1.", parallelism)
+                    .mitigation("Change the parallelism configuration in your pom.xml file.").toString());
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Run the given validators and collect the findings.
+     *
+     * @param validators validators to run
+     * @return findings of all validators in the order of the validators
+     */
+    public List<ValidationFinding> run(final List<Validator> validators) {
+        final List<ValidationFinding> findings = new ArrayList<>();
+        run(validators, (validator, finding) -> findings.add(finding));
+        return findings;
+    }
+
+    /**
+     * Run the given validators and pass the findings to a sink.
+     *
+     * @param validators validators to run
+     * @param sink       sink for the findings
+     */
+    public void run(final List<Validator> validators, final FindingSink sink) {
+        if (this.parallelism == 1 || validators.size() <= 1) {
+            runSequential(validators, sink);
+        } else {
+            runParallel(validators, sink);
+        }
+    }
+
+    /**
+     * Run the given validators until one of them reports findings and collect the findings.
+     *
+     * @param validators validators to run
+     * @return findings of the first validator that reported findings or an empty list if there were no findings
+     * @see #runFailFast(List, FindingSink)
+     */
+    public List<ValidationFinding> runFailFast(final List<Validator> validators) {
+        final List<ValidationFinding> findings = new ArrayList<>();
+        runFailFast(validators, (validator, finding) -> findings.add(finding));
+        return findings;
+    }
+
+    /**
+     * Run the given validators until one of them reports findings.
+     * <p>
+     * The runner starts the validators ordered by their {@link Validator#getCost() cost}, cheapest first. As soon as
+     * a validator finished with findings, it cancels the validators that are still running or waiting and passes the
+     * findings of that validator to the sink. If multiple validators would report findings, the result depends on
+     * which one finishes first.
+     * </p>
+     *
+     * @param validators validators to run
+     * @param sink       sink for the findings of the first validator that reported findings
+     */
+    public void runFailFast(final List<Validator> validators, final FindingSink sink) {
+        final List<Validator> cheapestFirst = new ArrayList<>(validators);
+        cheapestFirst.sort(Comparator.comparing(Validator::getCost));
+        if (this.parallelism == 1 || validators.size() <= 1) {
+            runSequentialFailFast(cheapestFirst, sink);
+        } else {
+            runParallelFailFast(cheapestFirst, sink);
+        }
+    }
+
+    private void runSequentialFailFast(final List<Validator> validators, final FindingSink sink) {
+        for (final Validator validator : validators) {
+            final ValidatorResult result = collectFindings(validator);
+            if (result.hasFindings()) {
+                result.passTo(sink);
+                return;
+            }
+        }
+    }
+
+    private void runParallelFailFast(final List<Validator> validators, final FindingSink sink) {
+        final ExecutorService executor = createExecutor(validators.size());
+        final CompletionService<ValidatorResult> completionService = new ExecutorCompletionService<>(executor);
+        final List<Future<ValidatorResult>> results = new ArrayList<>(validators.size());
+        try {
+            for (final Validator validator : validators) {
+                results.add(completionService.submit(Profiler.propagate(() -> collectFindings(validator))));
+            }
+            for (int finished = 0; finished < validators.size(); finished++) {
+                final ValidatorResult result = waitForResult(takeNextResult(completionService));
+                if (result.hasFindings()) {
+                    result.passTo(sink);
+                    return;
+                }
+            }
+        } finally {
+            results.forEach(result -> result.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private static ValidatorResult collectFindings(final Validator validator) {
+        final var result = new ValidatorResult(validator);
+        runValidator(validator, result.findings::add);
+        return result;
+    }
+
+    private Future<ValidatorResult> takeNextResult(final CompletionService<ValidatorResult> completionService) {
+        try {
+            return completionService.take();
+        } catch (final InterruptedException exception) {
+            throw getInterruptedException(exception);
+        }
+    }
+
+    private void runSequential(final List<Validator> validators, final FindingSink sink) {
+        for (final Validator validator : validators) {
+            runValidator(validator, finding -> sink.accept(validator, finding));
+        }
+    }
+
+    private void runParallel(final List<Validator> validators, final FindingSink sink) {
+        final ExecutorService executor = createExecutor(validators.size());
+        final var dispatcher = new OrderedDispatcher(validators, sink);
+        try {
+            final List<Future<?>> results = new ArrayList<>(validators.size());
+            for (int index = 0; index < validators.size(); index++) {
+                final int validatorIndex = index;
+                final Validator validator = validators.get(index);
+                results.add(executor.submit(Profiler.propagate(() -> {
+                    try {
+                        runValidator(validator, finding -> dispatcher.accept(validatorIndex, finding));
+                    } finally {
+                        dispatcher.finish(validatorIndex);
+                    }
+                })));
+            }
+            for (final Future<?> result : results) {
+                waitForResult(result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExecutorService createExecutor(final int numberOfValidators) {
+        return Executors.newFixedThreadPool(Math.min(this.parallelism, numberOfValidators),
+                new ValidatorThreadFactory());
+    }
+
+    private static void runValidator(final Validator validator, final Consumer<ValidationFinding> findingConsumer) {
+        Profiler.measure("validate " + validator.getName(), () -> {
+            validator.validate(findingConsumer);
+            return null;
+        });
+    }
+
+    private <T> T waitForResult(final Future<T> result) {
+        try {
+            return result.get();
+        } catch (final InterruptedException exception) {
+            throw getInterruptedException(exception);
+        } catch (final ExecutionException exception) {
+            throw unwrap(exception);
+        }
+    }
+
+    private IllegalStateException getInterruptedException(final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException(
+                ExaError.messageBuilder("E-PK-70").message("Interrupted while waiting for validators.").toString(),
+                exception);
+    }
+
+    private RuntimeException unwrap(final ExecutionException exception) {
+        final Throwable cause = exception.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else {
+            return new IllegalStateException(ExaError.messageBuilder("F-PK-71")
+                    .message("Validator failed with an unexpected exception.").ticketMitigation().toString(), cause);
+        }
+    }
+
+    /**
+     * Findings of one validator that are passed to the sink after the validator finished.
+     */
+    private static class ValidatorResult {
+        private final Validator validator;
+        private final List<ValidationFinding> findings = new ArrayList<>();
+
+        private ValidatorResult(final Validator validator) {
+            this.validator = validator;
+        }
+
+        private boolean hasFindings() {
+            return !this.findings.isEmpty();
+        }
+
+        private void passTo(final FindingSink sink) {
+            this.findings.forEach(finding -> sink.accept(this.validator, finding));
+        }
+    }
+
+    /**
+     * This class passes the findings of concurrently running validators to a sink in the order of the validators.
+     * <p>
+     * Findings of the validator whose predecessors all finished go to the sink directly. Findings of the others are
+     * buffered until it is their validator's turn.
+     * </p>
+     */
+    private static class OrderedDispatcher {
+        private final List<Validator> validators;
+        private final FindingSink sink;
+        private final List<List<ValidationFinding>> buffers;
+        private final boolean[] finished;
+        private int current = 0;
+
+        private OrderedDispatcher(final List<Validator> validators, final FindingSink sink) {
+            this.validators = validators;
+            this.sink = sink;
+            this.buffers = new ArrayList<>(validators.size());
+            for (int index = 0; index < validators.size(); index++) {
+                this.buffers.add(new ArrayList<>());
+            }
+            this.finished = new boolean[validators.size()];
+        }
+
+        private synchronized void accept(final int validatorIndex, final ValidationFinding finding) {
+            if (validatorIndex == this.current) {
+                this.sink.accept(this.validators.get(validatorIndex), finding);
+            } else {
+                this.buffers.get(validatorIndex).add(finding);
+            }
+        }
+
+        private synchronized void finish(final int validatorIndex) {
+            this.finished[validatorIndex] = true;
+            while (this.current < this.finished.length && this.finished[this.current]) {
+                this.current++;
+                if (this.current < this.finished.length) {
+                    flushBuffer(this.current);
+                }
+            }
+        }
+
+        private void flushBuffer(final int validatorIndex) {
+            final Validator validator = this.validators.get(validatorIndex);
+            this.buffers.get(validatorIndex).forEach(finding -> this.sink.accept(validator, finding));
+            this.buffers.set(validatorIndex, Collections.emptyList());
+        }
+    }
+
+    private static class ValidatorThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final var thread = new Thread(runnable, "project-keeper-validator-" + this.threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.exasol.projectkeeper;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 
 /**
  * Interface for project validators.
@@ -10,8 +15,69 @@ public interface Validator {
 
     /**
      * Validate the current project.
+     * <p>
+     * Implementations report each finding as soon as they found it, so that the consumer can log, write or fix it
+     * while the validation is still running.
+     * </p>
+     * 
+     * @param findingConsumer consumer that accepts the {@link ValidationFinding}s
+     */
+    public void validate(Consumer<ValidationFinding> findingConsumer);
+
+    /**
+     * Validate the current project and collect the findings.
      * 
      * @return list of findings
      */
-    public List<ValidationFinding> validate();
+    public default List<ValidationFinding> validate() {
+        final List<ValidationFinding> findings = new ArrayList<>();
+        validate(findings::add);
+        return findings;
+    }
+
+    /**
+     * Declare the inputs that this validator reads.
+     * <p>
+     * The incremental verify mode skips validators whose inputs did not change since their last run without findings.
+     * Validators that don't declare their inputs always run.
+     * </p>
+     * 
+     * @return inputs of this validator or empty if the inputs are unknown
+     */
+    public default Optional<ValidatorInputs> getInputs() {
+        return Optional.empty();
+    }
+
+    /**
+     * Get a name for this validator that is used in log output and reports.
+     * 
+     * @return name of the validator
+     */
+    public default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Get a rough estimate of how expensive this validator is.
+     * <p>
+     * The fail-fast verify mode runs cheap validators first, so that it can stop before it starts the expensive ones.
+     * </p>
+     * 
+     * @return estimated cost
+     */
+    public default Cost getCost() {
+        return Cost.MEDIUM;
+    }
+
+    /**
+     * Estimated cost of a validator.
+     */
+    public enum Cost {
+        /** Only reads a few local files. */
+        LOW,
+        /** Parses project files or scans resources. */
+        MEDIUM,
+        /** Builds maven models or resolves artifacts, possibly over the network. */
+        HIGH
+    }
 }
@@ -0,0 +1,79 @@
+package com.exasol.projectkeeper;
+
+import java.util.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class decides which validators project-keeper runs.
+ * <p>
+ * Validators are selected by name. The name {@value #QUICK} selects all validators that neither access the network
+ * nor walk the git history, so that project-keeper is fast enough for pre-commit hooks.
+ * </p>
+ */
+public class ValidatorSelection {
+    /** Name of the project files validator. */
+    public static final String FILES = "files";
+    /** Name of the README validator. */
+    public static final String README = "readme";
+    /** Name of the LICENSE validator. */
+    public static final String LICENSE = "license";
+    /** Name of the pom file validator. */
+    public static final String POM = "pom";
+    /** Name of the changes file validator. */
+    public static final String CHANGES = "changes";
+    /** Name of the dependencies.md validator. */
+    public static final String DEPENDENCIES = "dependencies";
+    /** Name of the validator for files that must not exist. */
+    public static final String DELETED_FILES = "deleted-files";
+    /** Alias for all validators except {@value #CHANGES} and {@value #DEPENDENCIES}. */
+    public static final String QUICK = "quick";
+    private static final List<String> ALL_VALIDATORS = List.of(FILES, README, LICENSE, POM, CHANGES, DEPENDENCIES,
+            DELETED_FILES);
+    private static final List<String> QUICK_VALIDATORS = List.of(FILES, README, LICENSE, POM, DELETED_FILES);
+    private final Set<String> selectedValidators;
+
+    /**
+     * Create a new instance of {@link ValidatorSelection}.
+     *
+     * @param validators     names of the validators to run or empty / {@code null} to run all validators
+     * @param skipValidators names of the validators to skip or {@code null}
+     * @throws IllegalArgumentException if a name is unknown
+     */
+    public ValidatorSelection(final List<String> validators, final List<String> skipValidators) {
+        this.selectedValidators = new HashSet<>();
+        if (validators == null || validators.isEmpty()) {
+            this.selectedValidators.addAll(ALL_VALIDATORS);
+        } else {
+            validators.forEach(name -> this.selectedValidators.addAll(resolve(name)));
+        }
+        if (skipValidators != null) {
+            skipValidators.forEach(name -> this.selectedValidators.removeAll(resolve(name)));
+        }
+    }
+
+    private static List<String> resolve(final String name) {
+        final String normalizedName = name.trim().toLowerCase(Locale.ROOT);
+        if (QUICK.equals(normalizedName)) {
+            return QUICK_VALIDATORS;
+        } else if (ALL_VALIDATORS.contains(normalizedName)) {
+            return List.of(normalizedName);
+        } else {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-PK-81")
+                    .message("Unknown validator: {{validator name}}.", name)
+                    .mitigation("Please use one of the supported validators: {{supported validators}}.",
+                            String.join(", ", ALL_VALIDATORS) + ", " + QUICK)
+                    .toString());
+        }
+    }
+
+    /**
+     * Check if a validator is selected.
+     *
+     * @param validatorName name of the validator
+     * @return {@code true} if the validator should run
+     */
+    public boolean isSelected(final String validatorName) {
+        return this.selectedValidators.contains(validatorName);
+    }
+}
@@ -0,0 +1,159 @@
+package com.exasol.projectkeeper.incremental;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.ValidationFinding;
+import com.exasol.projectkeeper.Validator;
+
+/**
+ * This class stores the input fingerprints of validators that had no findings.
+ * <p>
+ * In the incremental verify mode a validator is skipped if its input fingerprint did not change since the last run
+ * without findings. The cache is stored as properties file. It is bound to the version of this plugin, since the
+ * templates that the validators compare the project with, are part of the plugin.
+ * </p>
+ * <p>
+ * This class is thread-safe, so that the validators can run concurrently.
+ * </p>
+ */
+public class IncrementalValidationCache {
+    private static final String PLUGIN_IDENTITY_KEY = "project-keeper.plugin";
+    private final Path cacheFile;
+    private final String pluginIdentity;
+    private final Map<String, String> fingerprints;
+
+    private IncrementalValidationCache(final Path cacheFile, final String pluginIdentity,
+            final Map<String, String> fingerprints) {
+        this.cacheFile = cacheFile;
+        this.pluginIdentity = pluginIdentity;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Load the cache from disk.
+     * <p>
+     * If the file does not exist or was written by a different plugin version, the cache starts empty.
+     * </p>
+     *
+     * @param cacheFile      file that stores the cache
+     * @param pluginIdentity identity of this plugin (for example the version)
+     * @return loaded cache
+     */
+    public static IncrementalValidationCache load(final Path cacheFile, final String pluginIdentity) {
+        final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+        if (Files.exists(cacheFile)) {
+            final Properties properties = readProperties(cacheFile);
+            if (pluginIdentity.equals(properties.getProperty(PLUGIN_IDENTITY_KEY))) {
+                properties.remove(PLUGIN_IDENTITY_KEY);
+                properties.forEach((key, value) -> fingerprints.put((String) key, (String) value));
+            }
+        }
+        return new IncrementalValidationCache(cacheFile, pluginIdentity, fingerprints);
+    }
+
+    private static Properties readProperties(final Path cacheFile) {
+        final var properties = new Properties();
+        try (final Reader reader = Files.newBufferedReader(cacheFile)) {
+            properties.load(reader);
+        } catch (final IOException | IllegalArgumentException exception) {
+            // a broken cache is not a problem; we just validate everything again
+            properties.clear();
+        }
+        return properties;
+    }
+
+    /**
+     * Wrap validators, so that they skip the validation if their inputs did not change.
+     * <p>
+     * Validators that don't declare their inputs are returned unchanged.
+     * </p>
+     *
+     * @param validators validators to wrap
+     * @return wrapped validators
+     */
+    public List<Validator> wrap(final List<Validator> validators) {
+        return validators.stream().map(this::wrap).collect(Collectors.toList());
+    }
+
+    private Validator wrap(final Validator validator) {
+        return validator.getInputs().<Validator>map(inputs -> new IncrementalValidator(validator, inputs))
+                .orElse(validator);
+    }
+
+    /**
+     * Write the cache to disk.
+     */
+    public void save() {
+        final var properties = new Properties();
+        properties.putAll(this.fingerprints);
+        properties.setProperty(PLUGIN_IDENTITY_KEY, this.pluginIdentity);
+        try {
+            Files.createDirectories(this.cacheFile.getParent());
+            try (final Writer writer = Files.newBufferedWriter(this.cacheFile)) {
+                properties.store(writer, "project-keeper input fingerprints of validators without findings");
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-74")
+                    .message("Failed to write incremental validation cache {{file}}.", this.cacheFile)
+                    .mitigation("Check the file permissions.").toString(), exception);
+        }
+    }
+
+    private static String getKey(final Validator validator) {
+        return validator.getClass().getName();
+    }
+
+    /**
+     * {@link Validator} that skips its delegate if the input fingerprint is known as clean.
+     */
+    private class IncrementalValidator implements Validator {
+        private final Validator delegate;
+        private final ValidatorInputs inputs;
+
+        private IncrementalValidator(final Validator delegate, final ValidatorInputs inputs) {
+            this.delegate = delegate;
+            this.inputs = inputs;
+        }
+
+        @Override
+        public void validate(final Consumer<ValidationFinding> findingConsumer) {
+            final String key = getKey(this.delegate);
+            final String fingerprint = this.inputs.fingerprint();
+            if (fingerprint.equals(IncrementalValidationCache.this.fingerprints.get(key))) {
+                return;
+            }
+            final var hasFindings = new AtomicBoolean(false);
+            this.delegate.validate(finding -> {
+                hasFindings.set(true);
+                findingConsumer.accept(finding);
+            });
+            if (hasFindings.get()) {
+                IncrementalValidationCache.this.fingerprints.remove(key);
+            } else {
+                IncrementalValidationCache.this.fingerprints.put(key, fingerprint);
+            }
+        }
+
+        @Override
+        public Optional<ValidatorInputs> getInputs() {
+            return Optional.of(this.inputs);
+        }
+
+        @Override
+        public String getName() {
+            return this.delegate.getName();
+        }
+
+        @Override
+        public Cost getCost() {
+            return this.delegate.getCost();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.exasol.projectkeeper.incremental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Supplier;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.repository.GitRepository;
+
+/**
+ * This class describes the inputs a {@link com.exasol.projectkeeper.Validator} reads.
+ * <p>
+ * The incremental verify mode uses the {@link #fingerprint()} of the inputs to decide if a validator needs to run
+ * again. For that the inputs must cover everything that can change the validator's result.
+ * </p>
+ */
+public final class ValidatorInputs {
+    private static final String MISSING_FILE = "<missing>";
+    private final List<Input> inputs;
+
+    private ValidatorInputs(final List<Input> inputs) {
+        this.inputs = inputs;
+    }
+
+    /**
+     * Get a {@link Builder} for {@link ValidatorInputs}.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Calculate a fingerprint of the current state of the inputs.
+     * <p>
+     * This method reads the declared files. So the fingerprint changes if one of the files changes.
+     * </p>
+     *
+     * @return SHA-256 fingerprint as hex string
+     */
+    public String fingerprint() {
+        final MessageDigest digest = createDigest();
+        for (final Input input : this.inputs) {
+            update(digest, input.name);
+            input.addTo(digest);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-PK-72")
+                    .message("Failed to create SHA-256 digest.").ticketMitigation().toString(), exception);
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void updateWithFileContent(final MessageDigest digest, final Path file) {
+        if (!Files.exists(file)) {
+            update(digest, MISSING_FILE);
+            return;
+        }
+        try (final InputStream fileStream = Files.newInputStream(file)) {
+            final var buffer = new byte[1024 * 10];
+            int numberOfBytesRead;
+            while ((numberOfBytesRead = fileStream.read(buffer)) > -1) {
+                digest.update(buffer, 0, numberOfBytesRead);
+            }
+            digest.update((byte) 0);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-73")
+                    .message("Failed to read input file {{file}} for calculating the fingerprint.", file).toString(),
+                    exception);
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final var hex = new StringBuilder(bytes.length * 2);
+        for (final byte each : bytes) {
+            hex.append(String.format("%02x", each));
+        }
+        return hex.toString();
+    }
+
+    private abstract static class Input {
+        private final String name;
+
+        private Input(final String name) {
+            this.name = name;
+        }
+
+        abstract void addTo(MessageDigest digest);
+    }
+
+    /**
+     * Builder for {@link ValidatorInputs}.
+     */
+    public static final class Builder {
+        private final List<Input> inputs = new ArrayList<>();
+
+        private Builder() {
+            // private constructor to hide public default
+        }
+
+        /**
+         * Add a file. The fingerprint covers the file's content or the fact that the file does not exist.
+         *
+         * @param file file to add
+         * @return self for fluent programming
+         */
+        public Builder file(final Path file) {
+            this.inputs.add(new Input("file:" + file) {
+                @Override
+                void addTo(final MessageDigest digest) {
+                    updateWithFileContent(digest, file);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Add multiple files.
+         *
+         * @param files files to add
+         * @return self for fluent programming
+         */
+        public Builder files(final Collection<Path> files) {
+            files.forEach(this::file);
+            return this;
+        }
+
+        /**
+         * Add a value such as a configuration parameter.
+         *
+         * @param name  name of the value
+         * @param value value
+         * @return self for fluent programming
+         */
+        public Builder value(final String name, final Object value) {
+            return lazyValue(name, () -> String.valueOf(value));
+        }
+
+        /**
+         * Add the current HEAD and the tags of a git repository.
+         *
+         * @param gitRepository git repository
+         * @return self for fluent programming
+         */
+        public Builder gitRefs(final GitRepository gitRepository) {
+            return lazyValue("git-refs", gitRepository::getRefsFingerprint);
+        }
+
+        private Builder lazyValue(final String name, final Supplier<String> value) {
+            this.inputs.add(new Input("value:" + name) {
+                @Override
+                void addTo(final MessageDigest digest) {
+                    update(digest, value.get());
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Build the {@link ValidatorInputs}.
+         *
+         * @return built {@link ValidatorInputs}
+         */
+        public ValidatorInputs build() {
+            return new ValidatorInputs(List.copyOf(this.inputs));
+        }
+    }
+}
@@ -30,8 +30,9 @@ public class DefaultMavenProjectFromFileReader implements MavenProjectFromFileRe
     @Override
     public MavenProject readProject(final File pomFile) throws ReadFailedException {
         try {
+            // copy the request since validators can read projects concurrently
             final ProjectBuildingResult build = this.mavenProjectBuilder.build(pomFile,
-                    this.session.getProjectBuildingRequest());
+                    new DefaultProjectBuildingRequest(this.session.getProjectBuildingRequest()));
             return build.getProject();
         } catch (final ProjectBuildingException exception) {
             throw new ReadFailedException(
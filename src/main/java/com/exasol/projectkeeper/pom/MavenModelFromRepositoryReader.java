@@ -1,5 +1,6 @@
 package com.exasol.projectkeeper.pom;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.artifact.Artifact;
@@ -9,15 +10,26 @@ import org.apache.maven.model.Model;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.project.*;
 import org.apache.maven.repository.RepositorySystem;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+
+import com.exasol.projectkeeper.profiling.Profiler;
 
 /**
  * Read a maven {@link Model} from an artifact of the maven repository using the {@link ProjectBuilder} that is injected
  * by Maven core to Mojo.
+ * <p>
+ * This class is thread-safe. The building request that it creates from the session is a template that is never
+ * changed after construction. Each call builds the model with its own copy of that template.
+ * </p>
+ * <p>
+ * {@link #readModelOffline(String, String, String)} reads models from the local repository only. It fails immediately
+ * for models that are not in the local repository instead of waiting for network timeouts.
+ * </p>
  */
 public class MavenModelFromRepositoryReader {
     private final ProjectBuilder mavenProjectBuilder;
     private final RepositorySystem repositorySystem;
-    private final ProjectBuildingRequest projectBuildingRequest;
+    private final ProjectBuildingRequest requestTemplate;
 
     /**
      * Create a new instance of {@link MavenModelFromRepositoryReader}.
@@ -30,9 +42,9 @@ public class MavenModelFromRepositoryReader {
             final RepositorySystem repositorySystem) {
         this.mavenProjectBuilder = mavenProjectBuilder;
         this.repositorySystem = repositorySystem;
-        this.projectBuildingRequest = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-        this.projectBuildingRequest.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
-                .setResolveDependencies(false).setProcessPlugins(false);
+        this.requestTemplate = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest())
+                .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL).setResolveDependencies(false)
+                .setProcessPlugins(false);
     }
 
     /**
@@ -47,10 +59,38 @@ public class MavenModelFromRepositoryReader {
      */
     public Model readModel(final String artifactId, final String groupId, final String version,
             final List<ArtifactRepository> remoteRepositories) throws ProjectBuildingException {
+        return Profiler.measure("read model from repository",
+                () -> readModelFromRepository(artifactId, groupId, version, remoteRepositories));
+    }
+
+    /**
+     * Read the {@link Model} of an artifact from the local maven repository without any network access.
+     *
+     * @param artifactId maven artifact id
+     * @param groupId    maven groupId
+     * @param version    version
+     * @return read maven model
+     * @throws ProjectBuildingException if the model or one of its parents is not in the local repository
+     */
+    public Model readModelOffline(final String artifactId, final String groupId, final String version)
+            throws ProjectBuildingException {
+        return Profiler.measure("read model from local repository", () -> {
+            final Artifact artifactDescription = this.repositorySystem.createProjectArtifact(groupId, artifactId,
+                    version);
+            final ProjectBuildingRequest request = new DefaultProjectBuildingRequest(this.requestTemplate)
+                    .setRemoteRepositories(Collections.emptyList()).setRepositorySession(
+                            new DefaultRepositorySystemSession(this.requestTemplate.getRepositorySession())
+                                    .setOffline(true));
+            return this.mavenProjectBuilder.build(artifactDescription, true, request).getProject().getModel();
+        });
+    }
+
+    private Model readModelFromRepository(final String artifactId, final String groupId, final String version,
+            final List<ArtifactRepository> remoteRepositories) throws ProjectBuildingException {
         final Artifact artifactDescription = this.repositorySystem.createProjectArtifact(groupId, artifactId, version);
-        this.projectBuildingRequest.setRemoteRepositories(remoteRepositories);
-        final ProjectBuildingResult build = this.mavenProjectBuilder.build(artifactDescription, true,
-                this.projectBuildingRequest);
+        final ProjectBuildingRequest request = new DefaultProjectBuildingRequest(this.requestTemplate)
+                .setRemoteRepositories(remoteRepositories);
+        final ProjectBuildingResult build = this.mavenProjectBuilder.build(artifactDescription, true, request);
         return build.getProject().getModel();
     }
 }
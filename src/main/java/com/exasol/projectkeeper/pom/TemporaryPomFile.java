@@ -0,0 +1,83 @@
+package com.exasol.projectkeeper.pom;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * This class temporarily saves a pom file so that it can be parsed by the
+ * {@link org.apache.maven.project.MavenProjectBuildingResult} that unfortunately only can parse files.
+ */
+public class TemporaryPomFile implements AutoCloseable {
+    private final Path pomFile;
+
+    /**
+     * Create a new {@link TemporaryPomFile}.
+     * 
+     * @param content pom file content
+     */
+    public TemporaryPomFile(final String content) {
+        this(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Create a new {@link TemporaryPomFile} from a stream, without reading the whole content into memory.
+     * 
+     * @param content pom file content
+     */
+    public TemporaryPomFile(final InputStream content) {
+        try {
+            this.pomFile = Files.createTempFile("pom-file-cache", ".xml");
+            Files.copy(content, this.pomFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                    ExaError.messageBuilder("E-PK-58").message("Failed to temporarily store pom file on disk.")
+                            .mitigation("Check the permissions for the temp directory of your OS.").toString(),
+                    exception);
+        }
+    }
+
+    /**
+     * Create a new {@link TemporaryPomFile} in the given directory.
+     * <p>
+     * Use this to read a changed pom file before it's written. Placed next to the real pom file, relative paths like
+     * the parent pom resolve the same way.
+     * </p>
+     *
+     * @param directory directory to create the file in
+     * @param content   pom file content
+     */
+    public TemporaryPomFile(final Path directory, final byte[] content) {
+        try {
+            this.pomFile = Files.createTempFile(directory, ".pom-", ".xml");
+            Files.write(this.pomFile, content, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-89")
+                    .message("Failed to temporarily store pom file in {{directory}}.", directory)
+                    .mitigation("Check the file permissions.").toString(), exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.delete(this.pomFile);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                    ExaError.messageBuilder("E-PK-59").message("Failed to remove temporary cache file.")
+                            .mitigation("Check the file permissions.").toString(),
+                    exception);
+        }
+    }
+
+    /**
+     * Get the path of the pom file on disk.
+     * 
+     * @return path of the pom file
+     */
+    public Path getPomFile() {
+        return this.pomFile;
+    }
+}
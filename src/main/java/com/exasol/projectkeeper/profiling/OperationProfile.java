@@ -0,0 +1,75 @@
+package com.exasol.projectkeeper.profiling;
+
+/**
+ * This class holds the accumulated measurements of one profiled operation.
+ */
+public final class OperationProfile {
+    private final String name;
+    private final long calls;
+    private final long wallTimeNanos;
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    /**
+     * Create a new instance of {@link OperationProfile}.
+     *
+     * @param name           name of the operation
+     * @param calls          number of calls
+     * @param wallTimeNanos  total wall time in nanoseconds
+     * @param cpuTimeNanos   total CPU time in nanoseconds
+     * @param allocatedBytes total allocated heap memory in bytes
+     */
+    public OperationProfile(final String name, final long calls, final long wallTimeNanos, final long cpuTimeNanos,
+            final long allocatedBytes) {
+        this.name = name;
+        this.calls = calls;
+        this.wallTimeNanos = wallTimeNanos;
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Get the name of the operation.
+     *
+     * @return name of the operation
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the number of calls.
+     *
+     * @return number of calls
+     */
+    public long getCalls() {
+        return this.calls;
+    }
+
+    /**
+     * Get the total wall time.
+     *
+     * @return wall time in nanoseconds
+     */
+    public long getWallTimeNanos() {
+        return this.wallTimeNanos;
+    }
+
+    /**
+     * Get the total CPU time.
+     *
+     * @return CPU time in nanoseconds
+     */
+    public long getCpuTimeNanos() {
+        return this.cpuTimeNanos;
+    }
+
+    /**
+     * Get the total allocated heap memory.
+     *
+     * @return allocated memory in bytes
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+}
@@ -0,0 +1,118 @@
+package com.exasol.projectkeeper.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * This class accumulates the measurements of one profiled project-keeper run.
+ * <p>
+ * For each operation it records the number of calls, the wall time, the CPU time and the allocated heap memory of the
+ * calling thread. Nested operations are included in the measurements of the outer operations. Work that an operation
+ * hands to other threads (for example the class path scan) only counts into the wall time.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class ProfileRecorder {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final long startTime = System.nanoTime();
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+
+    /**
+     * Create a new instance of {@link ProfileRecorder}.
+     */
+    public ProfileRecorder() {
+        this.cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+        this.allocatedBytesSupported = THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+    }
+
+    <T, E extends Exception> T measure(final String operationName, final Profiler.ProfiledOperation<T, E> operation)
+            throws E {
+        final long wallTimeBefore = System.nanoTime();
+        final long cpuTimeBefore = getCpuTime();
+        final long allocatedBytesBefore = getAllocatedBytes();
+        try {
+            return operation.run();
+        } finally {
+            final Statistics operationStatistics = this.statistics.computeIfAbsent(operationName,
+                    name -> new Statistics());
+            operationStatistics.calls.increment();
+            operationStatistics.wallTime.add(System.nanoTime() - wallTimeBefore);
+            operationStatistics.cpuTime.add(getCpuTime() - cpuTimeBefore);
+            operationStatistics.allocatedBytes.add(getAllocatedBytes() - allocatedBytesBefore);
+        }
+    }
+
+    private long getCpuTime() {
+        return this.cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long getAllocatedBytes() {
+        if (this.allocatedBytesSupported) {
+            return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the wall time since this recorder was created.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedTime() {
+        return System.nanoTime() - this.startTime;
+    }
+
+    /**
+     * Get if the JVM supports measuring the CPU time of threads.
+     *
+     * @return {@code true} if the CPU times are measured
+     */
+    public boolean isCpuTimeSupported() {
+        return this.cpuTimeSupported;
+    }
+
+    /**
+     * Get if the JVM supports measuring the allocated memory of threads.
+     *
+     * @return {@code true} if the allocated bytes are measured
+     */
+    public boolean isAllocatedBytesSupported() {
+        return this.allocatedBytesSupported;
+    }
+
+    /**
+     * Get the recorded operations ordered by their total wall time, longest first.
+     *
+     * @return recorded operations
+     */
+    public List<OperationProfile> getOperations() {
+        return this.statistics.entrySet().stream().map(entry -> entry.getValue().toProfile(entry.getKey()))
+                .sorted(Comparator.comparingLong(OperationProfile::getWallTimeNanos).reversed()
+                        .thenComparing(OperationProfile::getName))
+                .collect(Collectors.toList());
+    }
+
+    private static class Statistics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder wallTime = new LongAdder();
+        private final LongAdder cpuTime = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private OperationProfile toProfile(final String name) {
+            return new OperationProfile(name, this.calls.sum(), this.wallTime.sum(), this.cpuTime.sum(),
+                    this.allocatedBytes.sum());
+        }
+    }
+}
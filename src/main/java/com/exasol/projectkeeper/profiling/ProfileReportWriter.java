@@ -0,0 +1,89 @@
+package com.exasol.projectkeeper.profiling;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.report.JsonStrings;
+
+/**
+ * This class writes the measurements of a {@link ProfileRecorder} as JSON report and as table for the Maven log.
+ */
+public class ProfileReportWriter {
+    private static final String TABLE_ROW_FORMAT = "%-60s %8s %12s %12s %16s";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    /**
+     * Write the profile as JSON file.
+     *
+     * @param reportFile file to write
+     * @param goal       name of the executed goal
+     * @param recorder   recorder with the measurements
+     */
+    public void writeJson(final Path reportFile, final String goal, final ProfileRecorder recorder) {
+        try {
+            Files.createDirectories(reportFile.getParent());
+            try (final Writer writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write(toJson(goal, recorder));
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-77")
+                    .message("Failed to write profile report {{file}}.", reportFile)
+                    .mitigation("Check the file permissions.").toString(), exception);
+        }
+    }
+
+    String toJson(final String goal, final ProfileRecorder recorder) {
+        final var json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"goal\": ").append(JsonStrings.quote(goal)).append(",\n");
+        json.append("  \"wallTimeNanos\": ").append(recorder.getElapsedTime()).append(",\n");
+        json.append("  \"cpuTimeSupported\": ").append(recorder.isCpuTimeSupported()).append(",\n");
+        json.append("  \"allocatedBytesSupported\": ").append(recorder.isAllocatedBytesSupported()).append(",\n");
+        json.append("  \"operations\": [");
+        final List<OperationProfile> operations = recorder.getOperations();
+        for (int index = 0; index < operations.size(); index++) {
+            final OperationProfile operation = operations.get(index);
+            json.append(index == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": ").append(JsonStrings.quote(operation.getName())) //
+                    .append(", \"calls\": ").append(operation.getCalls()) //
+                    .append(", \"wallTimeNanos\": ").append(operation.getWallTimeNanos()) //
+                    .append(", \"cpuTimeNanos\": ").append(operation.getCpuTimeNanos()) //
+                    .append(", \"allocatedBytes\": ").append(operation.getAllocatedBytes()).append("}");
+        }
+        json.append(operations.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    /**
+     * Format the profile as table for the Maven log.
+     *
+     * @param recorder recorder with the measurements
+     * @return lines of the table
+     */
+    public List<String> formatTable(final ProfileRecorder recorder) {
+        final List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, TABLE_ROW_FORMAT, "Operation", "Calls", "Wall [ms]", "CPU [ms]",
+                "Allocated [MB]"));
+        for (final OperationProfile operation : recorder.getOperations()) {
+            lines.add(String.format(Locale.ROOT, TABLE_ROW_FORMAT, operation.getName(), operation.getCalls(),
+                    formatMillis(operation.getWallTimeNanos()), formatMillis(operation.getCpuTimeNanos()),
+                    String.format(Locale.ROOT, "%.1f", operation.getAllocatedBytes() / BYTES_PER_MEGABYTE)));
+        }
+        lines.add(String.format(Locale.ROOT, TABLE_ROW_FORMAT, "Total", "", formatMillis(recorder.getElapsedTime()),
+                "", ""));
+        return lines;
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,133 @@
+package com.exasol.projectkeeper.profiling;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Entry point for measuring the time and resources that project-keeper spends in its operations.
+ * <p>
+ * The instrumented code calls {@link #measure(String, ProfiledOperation)}. If profiling is not active, that is a plain
+ * method call without any overhead for measuring.
+ * </p>
+ * <p>
+ * The active {@link ProfileRecorder} is bound to the thread that started the profiling. Tasks that run on other threads
+ * only record to it if they are wrapped with {@link #propagate(Callable)} or {@link #propagate(Runnable)} when they are
+ * submitted. The recorder is bound to the worker thread only while the task runs. That way thread pools don't keep a
+ * recorder after the profiling ended, and parallel Maven builds that execute this plugin for multiple modules at the
+ * same time get separate profiles.
+ * </p>
+ */
+public final class Profiler {
+    private static final ThreadLocal<ProfileRecorder> ACTIVE_RECORDER = new ThreadLocal<>();
+
+    private Profiler() {
+        // static class
+    }
+
+    /**
+     * Start profiling on the current thread.
+     *
+     * @return recorder that collects the measurements
+     */
+    public static ProfileRecorder start() {
+        final var recorder = new ProfileRecorder();
+        ACTIVE_RECORDER.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Stop profiling on the current thread.
+     */
+    public static void stop() {
+        ACTIVE_RECORDER.remove();
+    }
+
+    /**
+     * Wrap a task so that it records to the profile of the current thread on whichever thread it runs.
+     *
+     * @param task task to wrap
+     * @param <T>  result type of the task
+     * @return wrapped task
+     */
+    public static <T> Callable<T> propagate(final Callable<T> task) {
+        final ProfileRecorder recorder = ACTIVE_RECORDER.get();
+        if (recorder == null) {
+            return task;
+        }
+        return () -> {
+            final ProfileRecorder previousRecorder = ACTIVE_RECORDER.get();
+            ACTIVE_RECORDER.set(recorder);
+            try {
+                return task.call();
+            } finally {
+                restore(previousRecorder);
+            }
+        };
+    }
+
+    /**
+     * Wrap a task so that it records to the profile of the current thread on whichever thread it runs.
+     *
+     * @param task task to wrap
+     * @return wrapped task
+     */
+    public static Runnable propagate(final Runnable task) {
+        final ProfileRecorder recorder = ACTIVE_RECORDER.get();
+        if (recorder == null) {
+            return task;
+        }
+        return () -> {
+            final ProfileRecorder previousRecorder = ACTIVE_RECORDER.get();
+            ACTIVE_RECORDER.set(recorder);
+            try {
+                task.run();
+            } finally {
+                restore(previousRecorder);
+            }
+        };
+    }
+
+    private static void restore(final ProfileRecorder previousRecorder) {
+        if (previousRecorder == null) {
+            ACTIVE_RECORDER.remove();
+        } else {
+            ACTIVE_RECORDER.set(previousRecorder);
+        }
+    }
+
+    /**
+     * Run an operation and record its resource usage if profiling is active.
+     *
+     * @param operationName name of the operation in the profile
+     * @param operation     operation to run
+     * @param <T>           result type of the operation
+     * @param <E>           exception type of the operation
+     * @return result of the operation
+     * @throws E if the operation throws
+     */
+    public static <T, E extends Exception> T measure(final String operationName,
+            final ProfiledOperation<T, E> operation) throws E {
+        final ProfileRecorder recorder = ACTIVE_RECORDER.get();
+        if (recorder == null) {
+            return operation.run();
+        } else {
+            return recorder.measure(operationName, operation);
+        }
+    }
+
+    /**
+     * Operation that is measured by the {@link Profiler}.
+     *
+     * @param <T> result type
+     * @param <E> exception type
+     */
+    @FunctionalInterface
+    public interface ProfiledOperation<T, E extends Exception> {
+        /**
+         * Run the operation.
+         *
+         * @return result
+         * @throws E if the operation fails
+         */
+        T run() throws E;
+    }
+}
@@ -0,0 +1,130 @@
+package com.exasol.projectkeeper.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.*;
+
+/**
+ * This class writes the findings of a project-keeper run to a machine-readable report.
+ * <p>
+ * The report uses the <a href="https://jsonlines.org/">JSON Lines</a> format: one JSON object per finding and line.
+ * Each finding is written and flushed as soon as the sink receives it. That way the report does not hold the findings
+ * in memory and contains the findings reported so far even if the run fails.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class FindingsReportWriter implements FindingSink, AutoCloseable {
+    private static final Pattern ERROR_CODE_PATTERN = Pattern.compile("^([EFW]-[A-Z]+-[A-Z0-9]+):");
+    private final Path reportFile;
+    private final String goal;
+    private final Writer writer;
+    private final long startTime = System.nanoTime();
+
+    private FindingsReportWriter(final Path reportFile, final String goal, final Writer writer) {
+        this.reportFile = reportFile;
+        this.goal = goal;
+        this.writer = writer;
+    }
+
+    /**
+     * Create the report file and open it for writing.
+     * <p>
+     * An existing report is replaced.
+     * </p>
+     *
+     * @param reportFile file to write
+     * @param goal       name of the executed goal
+     * @return report writer
+     */
+    public static FindingsReportWriter open(final Path reportFile, final String goal) {
+        try {
+            Files.createDirectories(reportFile.getParent());
+            return new FindingsReportWriter(reportFile, goal,
+                    Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-79")
+                    .message("Failed to create findings report {{file}}.", reportFile)
+                    .mitigation("Check the file permissions.").toString(), exception);
+        }
+    }
+
+    @Override
+    public synchronized void accept(final Validator validator, final ValidationFinding finding) {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime);
+        try {
+            this.writer.write(toJson(this.goal, validator.getName(), finding, elapsedMillis));
+            this.writer.write('\n');
+            this.writer.flush();
+        } catch (final IOException exception) {
+            throw getWriteException(exception);
+        }
+    }
+
+    /**
+     * Convert a finding to a line of the report.
+     *
+     * @param goal          name of the executed goal
+     * @param validatorName name of the validator that reported the finding
+     * @param finding       finding to convert
+     * @param elapsedMillis time since the start of the run in milliseconds
+     * @return JSON object without line break
+     */
+    static String toJson(final String goal, final String validatorName, final ValidationFinding finding,
+            final long elapsedMillis) {
+        final String code = getErrorCode(finding.getMessage()).orElse(null);
+        final String file = finding.getFile().map(FindingsReportWriter::toUnixPath).orElse(null);
+        return "{\"goal\": " + JsonStrings.quote(goal) //
+                + ", \"validator\": " + JsonStrings.quote(validatorName) //
+                + ", \"code\": " + JsonStrings.quote(code) //
+                + ", \"file\": " + JsonStrings.quote(file) //
+                + ", \"fixable\": " + finding.hasFix() //
+                + ", \"elapsedMillis\": " + elapsedMillis //
+                + ", \"message\": " + JsonStrings.quote(finding.getMessage()) + "}";
+    }
+
+    /**
+     * Extract the error code from a finding message.
+     *
+     * @param message finding message that starts with an error code, for example {@code E-PK-53: ...}
+     * @return error code or empty if the message does not start with an error code
+     */
+    static Optional<String> getErrorCode(final String message) {
+        final Matcher matcher = ERROR_CODE_PATTERN.matcher(message);
+        if (matcher.find()) {
+            return Optional.of(matcher.group(1));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static String toUnixPath(final Path path) {
+        return path.toString().replace('\\', '/');
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            this.writer.close();
+        } catch (final IOException exception) {
+            throw getWriteException(exception);
+        }
+    }
+
+    private IllegalStateException getWriteException(final IOException exception) {
+        return new IllegalStateException(
+                ExaError.messageBuilder("E-PK-80").message("Failed to write findings report {{file}}.", this.reportFile)
+                        .mitigation("Check the file permissions and the free disk space.").toString(),
+                exception);
+    }
+}
@@ -0,0 +1,51 @@
+package com.exasol.projectkeeper.report;
+
+import java.util.Locale;
+
+/**
+ * Helper for writing JSON string literals.
+ */
+public final class JsonStrings {
+    private JsonStrings() {
+        // static class
+    }
+
+    /**
+     * Quote and escape a string as JSON string literal.
+     *
+     * @param value string to quote; {@code null} is written as JSON {@code null}
+     * @return JSON literal
+     */
+    public static String quote(final String value) {
+        if (value == null) {
+            return "null";
+        }
+        final var quoted = new StringBuilder(value.length() + 2).append('"');
+        for (final char character : value.toCharArray()) {
+            switch (character) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (character < 0x20) {
+                    quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+                } else {
+                    quoted.append(character);
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
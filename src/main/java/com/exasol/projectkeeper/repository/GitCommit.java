@@ -1,29 +1,34 @@
 package com.exasol.projectkeeper.repository;
 
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
 
 /**
- * This class represents a git commit. Currently it's a wrapper around jgit's {@link RevCommit}. It's purpose is to
+ * This class represents a git commit. Currently it's a wrapper around the id of the commit in jgit. It's purpose is to
  * abstract over the used git library.
+ * <p>
+ * It only keeps the id and not the parsed commit, so that commits can be restored from the {@link TagIndexCache}
+ * without reading the object database.
+ * </p>
  */
 public class GitCommit {
-    private final RevCommit commit;
+    private final ObjectId commitId;
 
     /**
      * Create a new instance of {@link GitCommit}.
      * 
-     * @param commit jgit's {@link RevCommit} to wrap
+     * @param commitId id of the commit to wrap
      */
-    GitCommit(final RevCommit commit) {
-        this.commit = commit;
+    GitCommit(final AnyObjectId commitId) {
+        this.commitId = commitId.toObjectId();
     }
 
     /**
-     * Get the jgit's {@link RevCommit}
+     * Get the jgit id of the commit.
      * 
-     * @return jgit's {@link RevCommit}
+     * @return id of the commit
      */
-    RevCommit getCommit() {
-        return this.commit;
+    ObjectId getCommitId() {
+        return this.commitId;
     }
 }
@@ -2,25 +2,45 @@ package com.exasol.projectkeeper.repository;
 
 import static org.eclipse.jgit.lib.Constants.R_TAGS;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Predicate;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.lib.*;
 import org.eclipse.jgit.revwalk.*;
 import org.eclipse.jgit.transport.RemoteConfig;
-import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.profiling.Profiler;
 
 /**
  * This gives access to a local git repository.
+ * <p>
+ * The repository is opened on first use and then shared by all callers until {@link #close()}, so that the git
+ * config, packed-refs and pack indexes are only read once per build. The remote name and the refs are read once and
+ * memoized, too. Create one instance per mojo execution and close it at the end.
+ * </p>
+ * <p>
+ * Optionally the tags of the current branch are persisted in a {@link TagIndexCache}. As long as the refs don't change,
+ * later builds then read the tags from that file and don't walk the history of the branch at all. Lookups of the
+ * latest matching tag only persist the part of the history they walked.
+ * </p>
+ * <p>
+ * This class is thread-safe. Each read uses its own {@link RevWalk} and {@link ObjectReader} on the shared repository.
+ * </p>
  */
-public class GitRepository {
+public class GitRepository implements AutoCloseable {
     private final Path projectDirectory;
+    private final TagIndexCache tagIndexCache;
+    private Git git;
+    private RefsSnapshot refs;
+    private Optional<String> repoNameFromRemote;
 
     /**
      * Create a new instance of {@link GitRepository}.
@@ -28,7 +48,18 @@ public class GitRepository {
      * @param projectDirectory the projects directory.
      */
     public GitRepository(final Path projectDirectory) {
+        this(projectDirectory, null);
+    }
+
+    /**
+     * Create a new instance of {@link GitRepository} that persists the tags of the current branch.
+     * 
+     * @param projectDirectory the projects directory.
+     * @param tagIndexFile     file that stores the tags of the current branch between builds
+     */
+    public GitRepository(final Path projectDirectory, final Path tagIndexFile) {
         this.projectDirectory = projectDirectory;
+        this.tagIndexCache = tagIndexFile == null ? null : new TagIndexCache(tagIndexFile);
     }
 
     /**
@@ -38,10 +69,101 @@ public class GitRepository {
      * @return descending ordered list of tags
      */
     public List<TaggedCommit> getTagsInCurrentBranch() {
-        try (final var git = openLocalGithubRepository()) {
-            final String currentBranch = git.getRepository().getFullBranch();
-            validateBranchExists(currentBranch);
-            return getTagsInBranch(git.getRepository(), currentBranch);
+        return Profiler.measure("read tags of current branch", this::readTagsInCurrentBranch);
+    }
+
+    private List<TaggedCommit> readTagsInCurrentBranch() {
+        if (this.tagIndexCache == null) {
+            return walkAllTagsInCurrentBranch();
+        }
+        final String refsFingerprint = getRefsFingerprint();
+        return this.tagIndexCache.load(refsFingerprint).filter(TagIndexCache.TagIndex::isComplete)
+                .map(TagIndexCache.TagIndex::getTags).orElseGet(() -> {
+                    final List<TaggedCommit> tags = walkAllTagsInCurrentBranch();
+                    this.tagIndexCache.store(refsFingerprint, tags, true);
+                    return tags;
+                });
+    }
+
+    private List<TaggedCommit> walkAllTagsInCurrentBranch() {
+        final List<TaggedCommit> result = new ArrayList<>();
+        walkTagsInCurrentBranch(tag -> true, taggedCommit -> {
+            result.add(taggedCommit);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Find the most recent tag of the current branch that matches a filter.
+     * <p>
+     * The walk over the branch history stops at the first commit with a matching tag, so that its cost depends on the
+     * number of commits since that tag and not on the length of the history. Without a persisted tag index only tags
+     * that match the filter are resolved.
+     * </p>
+     * <p>
+     * If the tags are persisted, this method first looks for a match in the {@link TagIndexCache}. If the cache is
+     * missing or outdated, it walks the history and stops at the first match as well. It then persists the tags it
+     * passed up to that match, so that later builds with the same refs don't walk the history at all.
+     * </p>
+     * 
+     * @param tagFilter filter for the tag names
+     * @return most recent matching tag or empty if no tag of the current branch matches
+     */
+    public Optional<TaggedCommit> findLatestTagInCurrentBranch(final Predicate<String> tagFilter) {
+        return Profiler.measure("find latest tag of current branch", () -> {
+            if (this.tagIndexCache == null) {
+                final List<TaggedCommit> result = new ArrayList<>(1);
+                walkTagsInCurrentBranch(tagFilter, taggedCommit -> {
+                    result.add(taggedCommit);
+                    return false;
+                });
+                return result.stream().findFirst();
+            }
+            return findLatestTagUsingIndex(tagFilter);
+        });
+    }
+
+    private Optional<TaggedCommit> findLatestTagUsingIndex(final Predicate<String> tagFilter) {
+        final String refsFingerprint = getRefsFingerprint();
+        final Optional<TagIndexCache.TagIndex> index = this.tagIndexCache.load(refsFingerprint);
+        if (index.isPresent()) {
+            final Optional<TaggedCommit> match = findFirstMatch(index.get().getTags(), tagFilter);
+            if (match.isPresent() || index.get().isComplete()) {
+                return match;
+            }
+        }
+        // All tags are resolved here, so that the persisted prefix of the history is valid for any filter.
+        final List<TaggedCommit> passedTags = new ArrayList<>();
+        walkTagsInCurrentBranch(tag -> true, taggedCommit -> {
+            passedTags.add(taggedCommit);
+            return !tagFilter.test(taggedCommit.getTag());
+        });
+        final Optional<TaggedCommit> match = findFirstMatch(passedTags, tagFilter);
+        this.tagIndexCache.store(refsFingerprint, passedTags, match.isEmpty());
+        return match;
+    }
+
+    private static Optional<TaggedCommit> findFirstMatch(final List<TaggedCommit> tags,
+            final Predicate<String> tagFilter) {
+        return tags.stream().filter(taggedCommit -> tagFilter.test(taggedCommit.getTag())).findFirst();
+    }
+
+    /**
+     * Walk the tagged commits of the current branch in descending order of the commit date.
+     * 
+     * @param tagFilter filter for the tag names
+     * @param visitor   visitor for the tagged commits that returns {@code false} to stop the walk
+     */
+    private void walkTagsInCurrentBranch(final Predicate<String> tagFilter, final Predicate<TaggedCommit> visitor) {
+        final Repository openRepository = getRepository();
+        try {
+            final RefsSnapshot refsSnapshot = getRefs();
+            validateBranchExists(refsSnapshot.head);
+            final ObjectId branch = refsSnapshot.head.getObjectId();
+            if (branch != null) { // the branch has no commits if it's null
+                walkTagsInBranch(openRepository, branch, refsSnapshot.tags, tagFilter, visitor);
+            }
         } catch (final IOException exception) {
             throw new IllegalStateException(
                     ExaError.messageBuilder("E-PK-33")
@@ -50,102 +172,213 @@ public class GitRepository {
         }
     }
 
-    private void validateBranchExists(final String currentBranch) {
-        if (currentBranch == null) {
+    private void validateBranchExists(final Ref head) {
+        if (head == null) {
             throw new IllegalStateException(
                     ExaError.messageBuilder("E-PK-37").message("Could not get checked out branch of repository.")
                             .mitigation("Create a branch and check it out.").toString());
         }
     }
 
-    private List<TaggedCommit> getTagsInBranch(final Repository repository, final String branchName)
-            throws IOException {
-        final ObjectId branch = repository.resolve(branchName);
-        final Map<ObjectId, List<String>> tags = getTagsByTheIdOfTheCommitTheyPointTo(repository);
-        final var commitWalker = new RevWalk(repository);
-        try {
+    private void walkTagsInBranch(final Repository openRepository, final ObjectId branch, final List<Ref> tagRefs,
+            final Predicate<String> tagFilter, final Predicate<TaggedCommit> visitor) throws IOException {
+        try (final var commitWalker = new RevWalk(openRepository)) {
+            final ObjectIdSubclassMap<CommitTags> tags = indexTagsByCommit(commitWalker, tagRefs, tagFilter);
+            if (tags.isEmpty()) {
+                return;
+            }
             commitWalker.markStart(commitWalker.parseCommit(branch));
-        } catch (final NullPointerException exception) {
-            // NullPointerException is thrown if the branch has no commits
-            return Collections.emptyList();
+            commitWalker.sort(RevSort.COMMIT_TIME_DESC);
+            for (final RevCommit commit : commitWalker) {
+                final CommitTags commitTags = tags.get(commit);
+                if (commitTags != null) {
+                    for (final String tag : commitTags.tagNames) {
+                        if (!visitor.test(new TaggedCommit(commit, tag))) {
+                            return;
+                        }
+                    }
+                }
+            }
         }
-        commitWalker.sort(RevSort.COMMIT_TIME_DESC);
-        return readTagsFromCommits(tags, commitWalker);
     }
 
-    private List<TaggedCommit> readTagsFromCommits(final Map<ObjectId, List<String>> tags, final RevWalk commitWalker) {
-        final List<TaggedCommit> result = new ArrayList<>();
-        for (final RevCommit commit : commitWalker) {
-            if (tags.containsKey(commit.getId())) {
-                final List<String> commitsTags = tags.get(commit.getId());
-                for (final String tag : commitsTags) {
-                    result.add(new TaggedCommit(commit, tag));
+    private ObjectIdSubclassMap<CommitTags> indexTagsByCommit(final RevWalk tagSearcher, final List<Ref> tagRefs,
+            final Predicate<String> tagFilter) throws IOException {
+        final ObjectIdSubclassMap<CommitTags> index = new ObjectIdSubclassMap<>();
+        for (final Ref tagRef : tagRefs) {
+            final String tagName = tagRef.getName().substring(R_TAGS.length());
+            if (tagFilter.test(tagName)) {
+                final ObjectId commitId = getTaggedCommitId(tagSearcher, tagRef);
+                CommitTags commitTags = index.get(commitId);
+                if (commitTags == null) {
+                    commitTags = new CommitTags(commitId);
+                    index.add(commitTags);
                 }
+                commitTags.tagNames.add(tagName);
             }
         }
-        return result;
+        return index;
     }
 
-    private Map<ObjectId, List<String>> getTagsByTheIdOfTheCommitTheyPointTo(final Repository repository)
-            throws IOException {
-        final Map<ObjectId, List<String>> taggedResources = new HashMap<>();
-        for (final Ref tagRef : repository.getRefDatabase().getRefsByPrefix(R_TAGS)) {
-            final String tagName = tagRef.getName().replace(R_TAGS, "");
-            final ObjectId commitId = getTaggedCommitId(repository, tagRef);
-            taggedResources.computeIfAbsent(commitId, commit -> new LinkedList<>()).add(tagName);
+    private ObjectId getTaggedCommitId(final RevWalk tagSearcher, final Ref tagRef) throws IOException {
+        final RevObject target;
+        if (tagRef.isPeeled()) {
+            // packed-refs contains the peeled target of annotated tags, so the tag objects don't need to be read
+            final ObjectId peeledId = tagRef.getPeeledObjectId();
+            target = tagSearcher.parseAny(peeledId == null ? tagRef.getObjectId() : peeledId);
+        } else {
+            target = tagSearcher.peel(tagSearcher.parseAny(tagRef.getObjectId()));
         }
-        return taggedResources;
-    }
-
-    private ObjectId getTaggedCommitId(final Repository repository, final Ref tagRef) throws IOException {
-        try (final var tagSearcher = new RevWalk(repository)) {
-            final var revObject = tagSearcher.parseAny(tagRef.getObjectId());
-            if (revObject instanceof RevCommit) {
-                return revObject.getId();
-            } else if (revObject instanceof RevTag) {
-                return ((RevTag) revObject).getObject().getId();
-            } else {
-                throw new UnsupportedOperationException(ExaError.messageBuilder("F-PK-44")
-                        .message("Unsupported tag target {{target class name}}.")
-                        .parameter("target class name", revObject.getClass().getName()).ticketMitigation().toString());
-            }
+        if (target instanceof RevCommit) {
+            return target.getId();
+        } else {
+            throw new UnsupportedOperationException(ExaError.messageBuilder("F-PK-44")
+                    .message("Unsupported tag target {{target class name}}.")
+                    .parameter("target class name", target.getClass().getName()).ticketMitigation().toString());
         }
     }
 
     /**
      * Read a specific file at a given commit.
      * 
-     * @param relativeFilePath file path
+     * @param relativeFilePath file path relative to the repository root; may point into sub-directories
      * @param commit           commit
      * @return file contents
      */
     public String readFileAtCommit(final Path relativeFilePath, final GitCommit commit) {
-        try (final var git = openLocalGithubRepository()) {
-            return readFileAtCommit(relativeFilePath, git, commit.getCommit());
+        return readFileAtCommit(relativeFilePath, commit, GitRepository::decode);
+    }
+
+    /**
+     * Read a specific file at a given commit as stream.
+     * <p>
+     * Unlike {@link #readFileAtCommit(Path, GitCommit)} this does not load the whole file into memory. The stream is
+     * only valid while the content reader runs.
+     * </p>
+     * 
+     * @param relativeFilePath file path relative to the repository root; may point into sub-directories
+     * @param commit           commit
+     * @param contentReader    reader for the content of the file
+     * @param <T>              type of the result
+     * @return result of the content reader
+     */
+    public <T> T readFileAtCommit(final Path relativeFilePath, final GitCommit commit,
+            final ContentReader<T> contentReader) {
+        final String gitPath = toGitPath(relativeFilePath);
+        final Repository openRepository = getRepository();
+        try (final var reader = openRepository.newObjectReader()) {
+            final RevCommit parsedCommit = parseCommit(reader, commit);
+            try (final var treeWalk = TreeWalk.forPath(reader, gitPath, parsedCommit.getTree())) {
+                if (treeWalk == null || !isFile(treeWalk)) {
+                    throw new IllegalStateException(ExaError.messageBuilder("E-PK-35")
+                            .message("Failed to read file {{file path}} from commit {{commit id}}.")
+                            .parameter("file path", relativeFilePath).parameter("commit id", parsedCommit.getName())
+                            .mitigation("Make sure that the file exists at the given commit.").toString());
+                }
+                return readBlob(reader, treeWalk.getObjectId(0), contentReader);
+            }
         } catch (final IOException exception) {
-            throw new IllegalStateException(
-                    ExaError.messageBuilder("E-PK-43")
-                            .message("Failed to retrieve latest tag from the local git repository.").toString(),
-                    exception);
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-43")
+                    .message("Failed to read file {{file path}} from commit {{commit id}} of the local git repository.",
+                            relativeFilePath, commit.getCommitId().name())
+                    .toString(), exception);
+        }
+    }
+
+    /**
+     * Read several files at a given commit.
+     * <p>
+     * All files are looked up in a single walk over the commit's tree, so that reading for example the pom file and
+     * the changes files of a release does not parse the same trees repeatedly.
+     * </p>
+     * 
+     * @param relativeFilePaths file paths relative to the repository root; may point into sub-directories
+     * @param commit            commit
+     * @return file contents by path. Files that don't exist at the given commit are missing in the result.
+     */
+    public Map<Path, String> readFilesAtCommit(final Collection<Path> relativeFilePaths, final GitCommit commit) {
+        return readFilesAtCommit(relativeFilePaths, commit, GitRepository::decode);
+    }
+
+    /**
+     * Read several files at a given commit as streams.
+     * <p>
+     * All files are looked up in a single walk over the commit's tree. Each stream is only valid while the content
+     * reader runs for it.
+     * </p>
+     * 
+     * @param relativeFilePaths file paths relative to the repository root; may point into sub-directories
+     * @param commit            commit
+     * @param contentReader     reader for the content of each file
+     * @param <T>               type of the results
+     * @return results of the content reader by path. Files that don't exist at the given commit are missing in the
+     *         result.
+     */
+    public <T> Map<Path, T> readFilesAtCommit(final Collection<Path> relativeFilePaths, final GitCommit commit,
+            final ContentReader<T> contentReader) {
+        final Map<String, Path> pathsByGitPath = new HashMap<>();
+        relativeFilePaths.forEach(path -> pathsByGitPath.put(toGitPath(path), path));
+        if (pathsByGitPath.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Repository openRepository = getRepository();
+        try (final var reader = openRepository.newObjectReader(); final var treeWalk = new TreeWalk(reader)) {
+            treeWalk.addTree(parseCommit(reader, commit).getTree());
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(PathFilterGroup.createFromStrings(pathsByGitPath.keySet()));
+            final Map<Path, T> contents = new HashMap<>();
+            while (treeWalk.next()) {
+                final Path path = pathsByGitPath.get(treeWalk.getPathString());
+                if (path != null && isFile(treeWalk)) {
+                    contents.put(path, readBlob(reader, treeWalk.getObjectId(0), contentReader));
+                }
+            }
+            return contents;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-88")
+                    .message("Failed to read files {{file paths}} from commit {{commit id}}.",
+                            relativeFilePaths, commit.getCommitId().name())
+                    .toString(), exception);
+        }
+    }
+
+    private static <T> T readBlob(final ObjectReader reader, final ObjectId blobId,
+            final ContentReader<T> contentReader) throws IOException {
+        try (final InputStream stream = reader.open(blobId, Constants.OBJ_BLOB).openStream()) {
+            return contentReader.read(stream);
+        }
+    }
+
+    private static RevCommit parseCommit(final ObjectReader reader, final GitCommit commit) throws IOException {
+        try (final var commitParser = new RevWalk(reader)) {
+            return commitParser.parseCommit(commit.getCommitId());
         }
     }
 
-    private String readFileAtCommit(final Path relativeFilePath, final Git git, final RevCommit commit)
-            throws IOException {
-        final var repository = git.getRepository();
-        final var reader = repository.newObjectReader();
-        final var treeParser = new CanonicalTreeParser(null, reader, commit.getTree());
-        if (!treeParser.findFile(relativeFilePath.toString())) {
-            throw new IllegalStateException(ExaError.messageBuilder("E-PK-35")
-                    .message("Failed to read file {{file path}} from commit {{commit id}}.")
-                    .parameter("file path", relativeFilePath).parameter("commit id", commit.getName())
-                    .mitigation("Make sure that the file exists at the given commit.").toString());
+    private static boolean isFile(final TreeWalk treeWalk) {
+        return treeWalk.getFileMode(0).getObjectType() == Constants.OBJ_BLOB;
+    }
+
+    private static String toGitPath(final Path relativeFilePath) {
+        final StringJoiner gitPath = new StringJoiner("/");
+        relativeFilePath.forEach(name -> gitPath.add(name.toString()));
+        if (gitPath.length() == 0) {
+            throw new IllegalArgumentException(ExaError.messageBuilder("E-PK-91")
+                    .message("Can't read file with empty path {{file path}} from a commit.", relativeFilePath)
+                    .mitigation("Pass the path of a file relative to the repository root.").toString());
+        }
+        return gitPath.toString();
+    }
+
+    private static String decode(final InputStream content) throws IOException {
+        return new String(content.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private synchronized Repository getRepository() {
+        if (this.git == null) {
+            this.git = openLocalGithubRepository();
         }
-        final var objectForVersionOfFile = treeParser.getEntryObjectId();
-        final var objectLoader = reader.open(objectForVersionOfFile);
-        final var contentBuffer = new ByteArrayOutputStream();
-        objectLoader.copyTo(contentBuffer);
-        return contentBuffer.toString(StandardCharsets.UTF_8);
+        return this.git.getRepository();
     }
 
     private Git openLocalGithubRepository() {
@@ -159,14 +392,59 @@ public class GitRepository {
         }
     }
 
+    private synchronized RefsSnapshot getRefs() throws IOException {
+        if (this.refs == null) {
+            final Repository openRepository = getRepository();
+            final List<Ref> tags = new ArrayList<>(openRepository.getRefDatabase().getRefsByPrefix(R_TAGS));
+            tags.sort(Comparator.comparing(Ref::getName));
+            this.refs = new RefsSnapshot(openRepository.exactRef(Constants.HEAD), tags);
+        }
+        return this.refs;
+    }
+
+    /**
+     * Get a string that identifies the current state of the refs that project-keeper reads: HEAD and the tags.
+     * <p>
+     * The string changes if a new commit is checked out or if a tag is added, moved or removed. It's used as input
+     * fingerprint for the incremental verify mode.
+     * </p>
+     * 
+     * @return refs fingerprint
+     */
+    public String getRefsFingerprint() {
+        try {
+            final RefsSnapshot refsSnapshot = getRefs();
+            final var fingerprint = new StringBuilder();
+            final Ref head = refsSnapshot.head;
+            if (head != null) {
+                fingerprint.append(head.getTarget().getName()).append("=").append(ObjectId.toString(head.getObjectId()))
+                        .append("\n");
+            }
+            for (final Ref tag : refsSnapshot.tags) {
+                fingerprint.append(tag.getName()).append("=").append(ObjectId.toString(tag.getObjectId())).append("\n");
+            }
+            return fingerprint.toString();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-75")
+                    .message("Failed to read the refs of the local git repository.").toString(), exception);
+        }
+    }
+
     /**
      * Try to get a the name of the repository from the git remote configuration.
      * 
      * @return repository name
      */
-    public Optional<String> getRepoNameFromRemote() {
+    public synchronized Optional<String> getRepoNameFromRemote() {
+        if (this.repoNameFromRemote == null) {
+            this.repoNameFromRemote = readRepoNameFromRemote();
+        }
+        return this.repoNameFromRemote;
+    }
+
+    private Optional<String> readRepoNameFromRemote() {
         try {
-            final List<RemoteConfig> remotes = openLocalGithubRepository().remoteList().call();
+            final List<RemoteConfig> remotes = RemoteConfig.getAllRemoteConfigs(getRepository().getConfig());
             final Optional<RemoteConfig> origin = remotes.stream().filter(remote -> remote.getName().equals("origin"))
                     .findAny();
             if (origin.isPresent()) {
@@ -181,4 +459,61 @@ public class GitRepository {
             return Optional.empty();
         }
     }
+
+    /**
+     * Close the repository.
+     * <p>
+     * The memoized refs and remote name are discarded. If this instance is used again, it opens the repository again.
+     * </p>
+     */
+    @Override
+    public synchronized void close() {
+        if (this.git != null) {
+            this.git.close();
+            this.git = null;
+        }
+        this.refs = null;
+        this.repoNameFromRemote = null;
+    }
+
+    /**
+     * Reader for the content of a file.
+     *
+     * @param <T> type of the result
+     */
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        /**
+         * Read the content of a file.
+         *
+         * @param content content of the file
+         * @return result
+         * @throws IOException if reading the content fails
+         */
+        T read(InputStream content) throws IOException;
+    }
+
+    /**
+     * Names of the tags that point to one commit. Most commits have a single tag.
+     */
+    private static final class CommitTags extends ObjectId {
+        private final List<String> tagNames = new ArrayList<>(1);
+
+        private CommitTags(final AnyObjectId commitId) {
+            super(commitId);
+        }
+    }
+
+    /**
+     * Refs that project-keeper reads, read once per {@link GitRepository}.
+     */
+    private static final class RefsSnapshot {
+        private final Ref head;
+        private final List<Ref> tags;
+
+        private RefsSnapshot(final Ref head, final List<Ref> tags) {
+            this.head = head;
+            this.tags = tags;
+        }
+    }
 }
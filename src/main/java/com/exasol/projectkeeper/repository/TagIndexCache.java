@@ -0,0 +1,166 @@
+package com.exasol.projectkeeper.repository;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.util.*;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * Persistent cache for the tags of the current branch.
+ * <p>
+ * The tags of a branch and the commits they point to only change if the refs change. For that the cache stores the
+ * tags together with a hash of the refs fingerprint (HEAD and all tags, see {@link GitRepository#getRefsFingerprint()})
+ * and is only valid as long as the fingerprint stays the same. Loading the cache only reads the file. It does not
+ * access the object database of the repository.
+ * </p>
+ * <p>
+ * The cache either holds all tags of the branch or, if the walk over the history stopped early, only the newest tags
+ * up to the point where it stopped. A partial index still answers which of these tags is the most recent one that
+ * matches a filter. Only if none of them matches, the history needs to be walked further.
+ * </p>
+ * <p>
+ * The file is written to a temporary file first and then moved to its final name, so readers never see a partially
+ * written cache. The cache is an optimization only. A cache that can't be read is treated as missing and a cache that
+ * can't be written is skipped.
+ * </p>
+ */
+class TagIndexCache {
+    private static final String KEY_REFS = "refs";
+    private static final String KEY_COMPLETE = "complete";
+    private static final String KEY_TAG_PREFIX = "tag.";
+    private final Path file;
+
+    /**
+     * Create a new instance of {@link TagIndexCache}.
+     *
+     * @param file file that stores the cache
+     */
+    TagIndexCache(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load the cached tags.
+     *
+     * @param refsFingerprint current refs fingerprint of the repository
+     * @return tag index or empty if the cache is missing or was written for different refs
+     */
+    Optional<TagIndex> load(final String refsFingerprint) {
+        if (!Files.exists(this.file)) {
+            return Optional.empty();
+        }
+        final var properties = new Properties();
+        try (final Reader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (final IOException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+        if (!hash(refsFingerprint).equals(properties.getProperty(KEY_REFS))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new TagIndex(toTags(properties),
+                    Boolean.parseBoolean(properties.getProperty(KEY_COMPLETE))));
+        } catch (final IllegalArgumentException exception) {
+            // ObjectId.fromString() throws an IllegalArgumentException for broken ids
+            return Optional.empty();
+        }
+    }
+
+    private static List<TaggedCommit> toTags(final Properties properties) {
+        final List<TaggedCommit> tags = new ArrayList<>();
+        for (int index = 0; properties.containsKey(KEY_TAG_PREFIX + index + ".name"); index++) {
+            tags.add(new TaggedCommit(ObjectId.fromString(properties.getProperty(KEY_TAG_PREFIX + index + ".commit")),
+                    properties.getProperty(KEY_TAG_PREFIX + index + ".name")));
+        }
+        return tags;
+    }
+
+    /**
+     * Store the tags.
+     *
+     * @param refsFingerprint refs fingerprint of the repository that the tags were read from
+     * @param tags            newest tags of the current branch ordered descending by commit date
+     * @param complete        {@code true} if the tags are all tags of the branch, {@code false} if the walk stopped
+     *                        after the last of them
+     */
+    void store(final String refsFingerprint, final List<TaggedCommit> tags, final boolean complete) {
+        try {
+            Files.createDirectories(this.file.getParent());
+            final Path temporaryFile = Files.createTempFile(this.file.getParent(), this.file.getFileName().toString(),
+                    ".tmp");
+            try {
+                try (final Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    toProperties(refsFingerprint, tags, complete).store(writer,
+                            "project-keeper tags of the current branch");
+                }
+                moveAtomically(temporaryFile, this.file);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (final IOException exception) {
+            // The cache is an optimization only. The next run reads the tags from the repository again.
+        }
+    }
+
+    private static Properties toProperties(final String refsFingerprint, final List<TaggedCommit> tags,
+            final boolean complete) {
+        final var properties = new Properties();
+        properties.setProperty(KEY_REFS, hash(refsFingerprint));
+        properties.setProperty(KEY_COMPLETE, String.valueOf(complete));
+        for (int index = 0; index < tags.size(); index++) {
+            final TaggedCommit tag = tags.get(index);
+            properties.setProperty(KEY_TAG_PREFIX + index + ".name", tag.getTag());
+            properties.setProperty(KEY_TAG_PREFIX + index + ".commit", tag.getCommit().getCommitId().name());
+        }
+        return properties;
+    }
+
+    private static String hash(final String refsFingerprint) {
+        final MessageDigest digest = Constants.newMessageDigest();
+        return ObjectId.fromRaw(digest.digest(refsFingerprint.getBytes(StandardCharsets.UTF_8))).name();
+    }
+
+    private static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Tags loaded from the cache.
+     */
+    static final class TagIndex {
+        private final List<TaggedCommit> tags;
+        private final boolean complete;
+
+        private TagIndex(final List<TaggedCommit> tags, final boolean complete) {
+            this.tags = tags;
+            this.complete = complete;
+        }
+
+        /**
+         * Get the tags.
+         *
+         * @return newest tags of the current branch ordered descending by commit date
+         */
+        List<TaggedCommit> getTags() {
+            return this.tags;
+        }
+
+        /**
+         * Check if the index holds all tags of the branch.
+         *
+         * @return {@code true} if the index holds all tags, {@code false} if it only holds the newest ones
+         */
+        boolean isComplete() {
+            return this.complete;
+        }
+    }
+}
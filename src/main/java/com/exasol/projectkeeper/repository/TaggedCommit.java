@@ -1,6 +1,6 @@
 package com.exasol.projectkeeper.repository;
 
-import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.lib.AnyObjectId;
 
 /**
  * This class represents a git commit that is tagged by an git tag.
@@ -12,10 +12,10 @@ public class TaggedCommit {
     /**
      * Create a new instance of {@link TaggedCommit}.
      * 
-     * @param commit git commit
+     * @param commit id of the git commit
      * @param tag    git tag
      */
-    public TaggedCommit(final RevCommit commit, final String tag) {
+    public TaggedCommit(final AnyObjectId commit, final String tag) {
         this.commit = new GitCommit(commit);
         this.tag = tag;
     }
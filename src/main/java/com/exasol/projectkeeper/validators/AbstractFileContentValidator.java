@@ -37,8 +37,13 @@ public abstract class AbstractFileContentValidator extends AbstractFileValidator
     protected abstract List<ValidationFinding> validateContent(final String content);
 
     @Override
-    protected final void writeTemplateFile(final Path target) throws IOException {
-        Files.writeString(target, getTemplate());
+    public Cost getCost() {
+        return Cost.LOW;
+    }
+
+    @Override
+    protected final String renderTemplateFile() {
+        return getTemplate();
     }
 
     protected abstract String getTemplate();
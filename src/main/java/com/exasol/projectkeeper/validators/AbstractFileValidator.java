@@ -1,16 +1,15 @@
 package com.exasol.projectkeeper.validators;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.List;
-
-import org.apache.maven.plugin.logging.Log;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.ValidationFinding;
 import com.exasol.projectkeeper.Validator;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 
 /**
  * This class is a abstract basis for {@link Validator}s that validate files.
@@ -31,14 +30,32 @@ public abstract class AbstractFileValidator implements Validator {
     }
 
     @Override
-    public final List<ValidationFinding> validate() {
+    public final void validate(final Consumer<ValidationFinding> findingConsumer) {
         if (isValidationEnabled()) {
-            return runValidation();
-        } else {
-            return Collections.emptyList();
+            runValidation().forEach(finding -> findingConsumer.accept(finding.withDefaultFile(this.relativeFilePath)));
         }
     }
 
+    @Override
+    public final Optional<ValidatorInputs> getInputs() {
+        final ValidatorInputs.Builder inputs = ValidatorInputs.builder().file(this.absoluteFilePath)
+                .value("validation enabled", isValidationEnabled());
+        declareAdditionalInputs(inputs);
+        return Optional.of(inputs.build());
+    }
+
+    /**
+     * Declare inputs that this validator reads in addition to the validated file.
+     * <p>
+     * Override this method if the validation result depends on more than the validated file.
+     * </p>
+     * 
+     * @param inputs builder to add the inputs to
+     */
+    protected void declareAdditionalInputs(final ValidatorInputs.Builder inputs) {
+        // the validated file is the only input by default
+    }
+
     private List<ValidationFinding> runValidation() {
         if (!Files.exists(this.absoluteFilePath)) {
             return List.of(getMissingFileFinding());
@@ -55,27 +72,21 @@ public abstract class AbstractFileValidator implements Validator {
     }
 
     private ValidationFinding.Fix getCreateFileFix() {
-        return (Log log) -> {
-            try {
-                Files.createDirectories(this.absoluteFilePath.getParent());
-                writeTemplateFile(this.absoluteFilePath);
-                log.warn("Created '" + this.relativeFilePath + "'. Don't forget to update it's content!");
-            } catch (final IOException exception) {
-                throw new IllegalStateException(ExaError.messageBuilder("E-PK-63")
-                        .message("Failed to create required file {{file path}}.", this.relativeFilePath).toString());
-            }
+        return (log, transaction) -> {
+            transaction.writeFile(this.absoluteFilePath, renderTemplateFile());
+            log.warn("Created '" + this.relativeFilePath + "'. Don't forget to update it's content!");
         };
     }
 
     /**
-     *  Create a new file with a template content. 
+     * Get the template content for a new file.
      * <p>
      * The {@link AbstractFileValidator} calls this method when it applies the fix for a missing file.
      * </p>
-     * @param target file to create
-     * @throws IOException if creation fails
+     * 
+     * @return content of the file to create
      */
-    protected abstract void writeTemplateFile(Path target) throws IOException;
+    protected abstract String renderTemplateFile();
 
     /**
      * Validate the content of the file.
@@ -1,14 +1,13 @@
 package com.exasol.projectkeeper.validators;
 
-import java.io.File;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.*;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 
 /**
  * {@link Validator} that checks that specific files do not exist.
@@ -39,21 +38,32 @@ public class DeletedFilesValidator implements Validator {
     }
 
     @Override
-    public List<ValidationFinding> validate() {
-        return FILES_THAT_MUST_NOT_EXIST.entrySet().stream().map(entry -> {
-            final var fileThatMustNotExist = entry.getKey();
-            final String reason = entry.getValue();
+    public void validate(final Consumer<ValidationFinding> findingConsumer) {
+        FILES_THAT_MUST_NOT_EXIST.forEach((fileThatMustNotExist, reason) -> {
             final Path pathThatMustExist = this.projectDirectory.resolve(fileThatMustNotExist);
-            if (this.excludedFiles.isFileExcluded(this.projectDirectory.relativize(pathThatMustExist))) {
-                return null;
+            if (!this.excludedFiles.isFileExcluded(this.projectDirectory.relativize(pathThatMustExist))
+                    && pathThatMustExist.toFile().exists()) {
+                findingConsumer.accept(
+                        ValidationFinding.withMessage(getFileExistsErrorMessage(fileThatMustNotExist, reason))
+                                .file(fileThatMustNotExist).andFix((log, transaction) -> transaction.deleteFile(pathThatMustExist)).build());
             }
-            final var file = pathThatMustExist.toFile();
-            if (file.exists()) {
-                return ValidationFinding.withMessage(getFileExistsErrorMessage(fileThatMustNotExist, reason))
-                        .andFix(getFix(fileThatMustNotExist.toString(), file)).build();
-            }
-            return null;
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public Optional<ValidatorInputs> getInputs() {
+        final ValidatorInputs.Builder inputs = ValidatorInputs.builder();
+        for (final Path fileThatMustNotExist : new TreeSet<>(FILES_THAT_MUST_NOT_EXIST.keySet())) {
+            inputs.value("exists: " + fileThatMustNotExist,
+                    Files.exists(this.projectDirectory.resolve(fileThatMustNotExist)))
+                    .value("excluded: " + fileThatMustNotExist, this.excludedFiles.isFileExcluded(fileThatMustNotExist));
+        }
+        return Optional.of(inputs.build());
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.LOW;
     }
 
     private String getFileExistsErrorMessage(final Path fileThatMustNotExist, final String reason) {
@@ -61,16 +71,4 @@ public class DeletedFilesValidator implements Validator {
                 fileThatMustNotExist.toString(), reason).toString();
     }
 
-    private ValidationFinding.Fix getFix(final String fileName, final File file) {
-        return log -> {
-            try {
-                Files.delete(file.toPath());
-            } catch (final IOException exception) {
-                throw new IllegalStateException(
-                        ExaError.messageBuilder("E-PK-27").message("Failed to delete {{FILE}}.")
-                                .parameter("FILE", fileName).mitigation("Check file permissions.").toString(),
-                        exception);
-            }
-        };
-    }
 }
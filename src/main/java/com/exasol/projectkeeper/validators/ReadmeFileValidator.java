@@ -7,6 +7,7 @@ import java.util.*;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.*;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 
 /**
  * This is a {@link Validator} for the README.md.
@@ -61,6 +62,12 @@ public class ReadmeFileValidator extends AbstractFileContentValidator {
         return findings;
     }
 
+    @Override
+    protected void declareAdditionalInputs(final ValidatorInputs.Builder inputs) {
+        inputs.value("project name", this.projectName).value("artifact id", this.artifactId)
+                .value("repository name", this.repoName).value("modules", new TreeSet<>(this.enabledModules));
+    }
+
     @Override
     protected String getTemplate() {
         return "# " + this.projectName + NL + NL + //
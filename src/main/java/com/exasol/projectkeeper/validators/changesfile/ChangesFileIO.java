@@ -1,12 +1,15 @@
 package com.exasol.projectkeeper.validators.changesfile;
 
-import java.io.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.FixTransaction;
 
 /**
  * This class reads and writes a {@link ChangesFile} from disk.
@@ -22,7 +25,7 @@ public class ChangesFileIO {
      * @return read {@link ChangesFile}
      */
     public ChangesFile read(final Path file) {
-        try (final var fileReader = new BufferedReader(new FileReader(file.toFile()))) {
+        try (final var fileReader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
             String sectionHeader = null;
             String line;
             final var builder = ChangesFile.builder();
@@ -56,30 +59,34 @@ public class ChangesFileIO {
     }
 
     /**
-     * Write a {@link ChangesFile} back to disk.
+     * Stage writing a {@link ChangesFile} back to disk.
      * 
      * @param changesFile     {@link ChangesFile} to write
      * @param destinationFile file to write to
+     * @param transaction     transaction that writes the file as UTF-8
      */
-    public void write(final ChangesFile changesFile, final Path destinationFile) {
-        try (final var fileWriter = new BufferedWriter(new FileWriter(destinationFile.toFile()))) {
-            writeSection(fileWriter, changesFile.getHeaderSectionLines());
-            for (final ChangesFileSection section : changesFile.getSections()) {
-                writeSection(fileWriter, section.getContent());
-            }
-            fileWriter.flush();
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                    ExaError.messageBuilder("E-PK-41").message("Failed to write changes file {{file name}}.")
-                            .parameter("file name", destinationFile).toString(),
-                    exception);
+    public void write(final ChangesFile changesFile, final Path destinationFile, final FixTransaction transaction) {
+        transaction.writeFile(destinationFile, render(changesFile));
+    }
+
+    /**
+     * Render a {@link ChangesFile} to the string that {@link #write(ChangesFile, Path, FixTransaction)} would write.
+     * 
+     * @param changesFile {@link ChangesFile} to render
+     * @return rendered changes file
+     */
+    public String render(final ChangesFile changesFile) {
+        final var content = new StringBuilder();
+        renderSection(content, changesFile.getHeaderSectionLines());
+        for (final ChangesFileSection section : changesFile.getSections()) {
+            renderSection(content, section.getContent());
         }
+        return content.toString();
     }
 
-    private void writeSection(final BufferedWriter fileWriter, final List<String> content) throws IOException {
-        for (final String line : content) {
-            fileWriter.write(line);
-            fileWriter.write(LINE_SEPARATOR);
+    private void renderSection(final StringBuilder content, final List<String> lines) {
+        for (final String line : lines) {
+            content.append(line).append(LINE_SEPARATOR);
         }
     }
 }
@@ -1,14 +1,14 @@
 package com.exasol.projectkeeper.validators.changesfile;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.ProjectSnapshot;
 import com.exasol.projectkeeper.ValidationFinding;
-import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 import com.exasol.projectkeeper.validators.AbstractFileValidator;
 
 /**
@@ -16,30 +16,40 @@ import com.exasol.projectkeeper.validators.AbstractFileValidator;
  */
 public class ChangesFileValidator extends AbstractFileValidator {
     private final String projectName;
-    private final Path projectDirectory;
     private final String projectVersion;
-    private final MavenProjectFromFileReader mavenModelReader;
+    private final ProjectSnapshot projectSnapshot;
 
     /**
      * Create a new instance of {@link ChangesFileValidator}
      * 
-     * @param projectVersion   version of the project to validate
-     * @param projectName      name of the maven project
-     * @param projectDirectory root directory of the maven project
-     * @param mavenModelReader reader for maven models
+     * @param projectVersion  version of the project to validate
+     * @param projectName     name of the maven project
+     * @param projectSnapshot snapshot of the maven project
      */
-    public ChangesFileValidator(final String projectVersion, final String projectName, final Path projectDirectory,
-            final MavenProjectFromFileReader mavenModelReader) {
-        super(projectDirectory, Path.of("doc", "changes", "changes_" + projectVersion + ".md"));
+    public ChangesFileValidator(final String projectVersion, final String projectName,
+            final ProjectSnapshot projectSnapshot) {
+        super(projectSnapshot.getProjectDirectory(), Path.of("doc", "changes", "changes_" + projectVersion + ".md"));
         this.projectVersion = projectVersion;
         this.projectName = projectName;
-        this.projectDirectory = projectDirectory;
-        this.mavenModelReader = mavenModelReader;
+        this.projectSnapshot = projectSnapshot;
     }
 
     @Override
-    protected void writeTemplateFile(final Path target) throws IOException {
-        new ChangesFileIO().write(getTemplate(), target);
+    protected String renderTemplateFile() {
+        return new ChangesFileIO().render(getTemplate());
+    }
+
+    @Override
+    protected void declareAdditionalInputs(final ValidatorInputs.Builder inputs) {
+        inputs.value("project name", this.projectName).value("project version", this.projectVersion)
+                .file(this.projectSnapshot.getPomFile().toPath()).files(this.projectSnapshot.getParentPomFiles())
+                .value("imported boms", this.projectSnapshot.getImportedBoms())
+                .gitRefs(this.projectSnapshot.getGitRepository());
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.HIGH;
     }
 
     @Override
@@ -63,12 +73,12 @@ public class ChangesFileValidator extends AbstractFileValidator {
                 .withMessage(ExaError.messageBuilder("E-PK-40")
                         .message("Changes file is invalid.\nExpected content:\n{{expected content}}")
                         .parameter("expected content", fixedSections.toString()).toString())
-                .andFix((log -> new ChangesFileIO().write(fixedSections, file))).build();
+                .andFix((log, transaction) -> new ChangesFileIO().write(fixedSections, file, transaction))
+                .build();
     }
 
     private ChangesFile fixSections(final ChangesFile changesFile) {
-        final var dependencySectionFixer = new DependencySectionFixer(this.mavenModelReader, this.projectDirectory);
-        return dependencySectionFixer.fix(changesFile);
+        return new DependencySectionFixer(this.projectSnapshot).fix(changesFile);
     }
 
     private ChangesFile getTemplate() {
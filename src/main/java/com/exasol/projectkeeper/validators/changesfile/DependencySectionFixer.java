@@ -2,14 +2,13 @@ package com.exasol.projectkeeper.validators.changesfile;
 
 import static com.exasol.projectkeeper.validators.changesfile.ChangesFile.DEPENDENCY_UPDATES_HEADING;
 
-import java.nio.file.Path;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
 
-import com.exasol.errorreporting.ExaError;
-import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.ProjectSnapshot;
 import com.exasol.projectkeeper.validators.changesfile.dependencies.*;
 
 /**
@@ -17,30 +16,15 @@ import com.exasol.projectkeeper.validators.changesfile.dependencies.*;
  */
 //[impl->dsn~dependency-section-in-changes_x.x.x.md-file-validator~1]
 class DependencySectionFixer {
-    private final MavenProjectFromFileReader mavenModelReader;
-    private final Path projectDirectory;
-    private final Model currentMavenModel;
+    private final ProjectSnapshot projectSnapshot;
 
     /**
      * Create a new instance of {@link DependencySectionFixer}.
      *
-     * @param mavenModelReader reader for maven model
-     * @param projectDirectory projects root directory
+     * @param projectSnapshot snapshot of the project
      */
-    public DependencySectionFixer(final MavenProjectFromFileReader mavenModelReader, final Path projectDirectory) {
-        this.mavenModelReader = mavenModelReader;
-        this.projectDirectory = projectDirectory;
-        this.currentMavenModel = parseCurrentPomFile(projectDirectory.resolve("pom.xml"));
-    }
-
-    private Model parseCurrentPomFile(final Path pomFile) {
-        try {
-            return this.mavenModelReader.readProject(pomFile.toFile()).getModel();
-        } catch (final MavenProjectFromFileReader.ReadFailedException exception) {
-            throw new IllegalStateException(
-                    ExaError.messageBuilder("E-PK-42").message("Failed to parse current pom file.").toString(),
-                    exception);
-        }
+    public DependencySectionFixer(final ProjectSnapshot projectSnapshot) {
+        this.projectSnapshot = projectSnapshot;
     }
 
     /**
@@ -51,7 +35,8 @@ class DependencySectionFixer {
      */
     public ChangesFile fix(final ChangesFile changesFile) {
         final var oldModel = getOldModel();
-        final DependencyChangeReport report = new DependencyChangeReportReader().read(oldModel, this.currentMavenModel);
+        final DependencyChangeReport report = new DependencyChangeReportReader().read(oldModel,
+                this.projectSnapshot.getMavenModel());
         final List<String> renderedReport = new DependencyChangeReportRenderer().render(report);
         final List<ChangesFileSection> sections = new ArrayList<>(changesFile.getSections());
         removeDependencySection(sections);
@@ -64,25 +49,11 @@ class DependencySectionFixer {
     }
 
     private Model getOldModel() {
-        final Optional<String> lastReleasesPomFile = new LastReleasePomFileReader()
-                .readLatestReleasesPomFile(this.projectDirectory, this.currentMavenModel.getVersion());
-        if (lastReleasesPomFile.isPresent()) {
-            return parseOldPomFile(lastReleasesPomFile.get());
-        } else {
+        return this.projectSnapshot.getPreviousReleaseModel().orElseGet(() -> {
             final var emptyModel = new Model();
             final var build = new Build();
             emptyModel.setBuild(build);
             return emptyModel;
-        }
+        });
     }
-
-    private Model parseOldPomFile(final String pomFileContents) {
-        try (final var temporaryPomFile = new TemporaryPomFile(pomFileContents)) {
-            return this.mavenModelReader.readProject(temporaryPomFile.getPomFile().toFile()).getModel();
-        } catch (final MavenProjectFromFileReader.ReadFailedException exception) {
-            throw new IllegalStateException(ExaError.messageBuilder("E-PK-38")
-                    .message("Failed to parse pom file of previous release.").toString(), exception);
-        }
-    }
-
 }
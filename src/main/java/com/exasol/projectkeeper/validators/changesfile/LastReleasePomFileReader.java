@@ -20,13 +20,48 @@ public class LastReleasePomFileReader {
      * @return content of the pom file
      */
     public Optional<String> readLatestReleasesPomFile(final Path projectDirectory, final String currentVersion) {
-        final var gitRepository = new GitRepository(projectDirectory);
-        final var exasolVersionMatcher = new ExasolVersionMatcher();
-        final Optional<TaggedCommit> latestCommitWithExasolVersionTag = gitRepository.getTagsInCurrentBranch().stream()
-                .filter(taggedCommit -> exasolVersionMatcher.isExasolStyleVersion(taggedCommit.getTag()))//
-                .filter(taggedCommit -> !taggedCommit.getTag().equals(currentVersion))//
-                .findFirst();
-        return latestCommitWithExasolVersionTag
+        try (final var gitRepository = new GitRepository(projectDirectory)) {
+            return readLatestReleasesPomFile(gitRepository, currentVersion);
+        }
+    }
+
+    /**
+     * Read the content of the pom.xml file from the previous release on the current branch.
+     * <p>
+     * The history of the branch is only read back to the previous release.
+     * </p>
+     * 
+     * @param gitRepository  project's git repository
+     * @param currentVersion current release version
+     * @return content of the pom file
+     */
+    public Optional<String> readLatestReleasesPomFile(final GitRepository gitRepository, final String currentVersion) {
+        return findLatestRelease(gitRepository, currentVersion)
                 .map(taggedCommit -> gitRepository.readFileAtCommit(POM_PATH, taggedCommit.getCommit()));
     }
+
+    /**
+     * Read the pom.xml file from the previous release on the current branch as stream.
+     * <p>
+     * The history of the branch is only read back to the previous release. The file is not loaded into memory.
+     * </p>
+     * 
+     * @param gitRepository  project's git repository
+     * @param currentVersion current release version
+     * @param contentReader  reader for the content of the pom file
+     * @param <T>            type of the result
+     * @return result of the content reader or empty if there was no previous release
+     */
+    public <T> Optional<T> readLatestReleasesPomFile(final GitRepository gitRepository, final String currentVersion,
+            final GitRepository.ContentReader<T> contentReader) {
+        return findLatestRelease(gitRepository, currentVersion).map(
+                taggedCommit -> gitRepository.readFileAtCommit(POM_PATH, taggedCommit.getCommit(), contentReader));
+    }
+
+    private static Optional<TaggedCommit> findLatestRelease(final GitRepository gitRepository,
+            final String currentVersion) {
+        final var exasolVersionMatcher = new ExasolVersionMatcher();
+        return gitRepository.findLatestTagInCurrentBranch(
+                tag -> exasolVersionMatcher.isExasolStyleVersion(tag) && !tag.equals(currentVersion));
+    }
 }
@@ -0,0 +1,170 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.io.*;
+import java.util.Optional;
+
+/**
+ * {@link Writer} that compares the written content with the content of a {@link Reader} instead of storing it.
+ * <p>
+ * The writer stops comparing at the first difference. It only keeps the current line of both contents, so that it can
+ * report the first line that differs. After that it ignores everything that is written except for the rest of that
+ * line.
+ * </p>
+ */
+class ComparingWriter extends Writer {
+    private final Reader actual;
+    private final StringBuilder expectedLine = new StringBuilder();
+    private final StringBuilder actualLine = new StringBuilder();
+    private int lineNumber = 1;
+    private boolean differenceFound = false;
+    private boolean expectedLineComplete = false;
+    private boolean actualEnded = false;
+    private boolean expectedEnded = false;
+    private boolean closed = false;
+
+    /**
+     * Create a new instance of {@link ComparingWriter}.
+     *
+     * @param actual reader for the content to compare with
+     */
+    ComparingWriter(final Reader actual) {
+        this.actual = actual;
+    }
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        for (int index = offset; index < offset + length; index++) {
+            if (this.differenceFound) {
+                if (this.expectedLineComplete) {
+                    return;
+                }
+                appendToExpectedLine(buffer[index]);
+            } else {
+                compare(buffer[index]);
+            }
+        }
+    }
+
+    private void compare(final char expected) throws IOException {
+        final int actualCharacter = this.actual.read();
+        if (actualCharacter != expected) {
+            this.differenceFound = true;
+            appendToExpectedLine(expected);
+            if (actualCharacter == -1) {
+                this.actualEnded = this.actualLine.length() == 0;
+            } else if (actualCharacter != '\n') {
+                this.actualLine.append((char) actualCharacter);
+                readRestOfActualLine();
+            }
+        } else if (expected == '\n') {
+            this.lineNumber++;
+            this.expectedLine.setLength(0);
+            this.actualLine.setLength(0);
+        } else {
+            this.expectedLine.append(expected);
+            this.actualLine.append(expected);
+        }
+    }
+
+    private void appendToExpectedLine(final char expected) {
+        if (expected == '\n') {
+            this.expectedLineComplete = true;
+        } else {
+            this.expectedLine.append(expected);
+        }
+    }
+
+    private void readRestOfActualLine() throws IOException {
+        int character = this.actual.read();
+        while (character != -1 && character != '\n') {
+            this.actualLine.append((char) character);
+            character = this.actual.read();
+        }
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (!this.differenceFound) {
+            final int actualCharacter = this.actual.read();
+            if (actualCharacter != -1) {
+                this.differenceFound = true;
+                this.expectedEnded = this.expectedLine.length() == 0;
+                if (actualCharacter != '\n') {
+                    this.actualLine.append((char) actualCharacter);
+                    readRestOfActualLine();
+                }
+            }
+        }
+        this.expectedLineComplete = true;
+    }
+
+    /**
+     * Get the first difference. Call this method after {@link #close()}.
+     *
+     * @return first difference or empty if the contents are equal
+     */
+    Optional<Difference> getDifference() {
+        if (!this.differenceFound) {
+            return Optional.empty();
+        }
+        return Optional.of(new Difference(this.lineNumber,
+                this.expectedEnded ? null : stripCarriageReturn(this.expectedLine),
+                this.actualEnded ? null : stripCarriageReturn(this.actualLine)));
+    }
+
+    private static String stripCarriageReturn(final CharSequence line) {
+        final String text = line.toString();
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+
+    /**
+     * First line that differs.
+     */
+    static class Difference {
+        private final int lineNumber;
+        private final String expectedLine;
+        private final String actualLine;
+
+        private Difference(final int lineNumber, final String expectedLine, final String actualLine) {
+            this.lineNumber = lineNumber;
+            this.expectedLine = expectedLine;
+            this.actualLine = actualLine;
+        }
+
+        /**
+         * Get the number of the line, starting with 1.
+         *
+         * @return line number
+         */
+        int getLineNumber() {
+            return this.lineNumber;
+        }
+
+        /**
+         * Get the expected content of the line.
+         *
+         * @return expected line or {@code null} if the expected content ends before this line
+         */
+        String getExpectedLine() {
+            return this.expectedLine;
+        }
+
+        /**
+         * Get the actual content of the line.
+         *
+         * @return actual line or {@code null} if the actual content ends before this line
+         */
+        String getActualLine() {
+            return this.actualLine;
+        }
+    }
+}
@@ -36,7 +36,8 @@ public class DependenciesBrokenLinkReplacer {
     private ProjectDependency replaceBrokenLinks(final ProjectDependency dependency) {
         return new ProjectDependency(dependency.getName(),
                 this.brokenLinkReplacer.replaceIfBroken(dependency.getWebsiteUrl()),
-                replaceBrokenLicenseLinks(dependency.getLicenses()), dependency.getType());
+                replaceBrokenLicenseLinks(dependency.getLicenses()), dependency.getType(),
+                dependency.getCoordinates());
     }
 
     private List<License> replaceBrokenLicenseLinks(final List<License> licenses) {
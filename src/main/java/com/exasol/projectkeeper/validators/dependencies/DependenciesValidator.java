@@ -1,91 +1,166 @@
 package com.exasol.projectkeeper.validators.dependencies;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.*;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.*;
-import com.exasol.projectkeeper.pom.MavenModelFromRepositoryReader;
-import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
+import com.exasol.projectkeeper.validators.dependencies.renderer.DependencyPageParser;
 import com.exasol.projectkeeper.validators.dependencies.renderer.DependencyPageRenderer;
 
 /**
  * {@link Validator} for the dependencies.md file.
+ * <p>
+ * The existing dependencies.md file already contains the name, website and licenses of each dependency. This validator
+ * parses it and passes that information to the {@link ProjectDependencyReader}, so that only new or changed
+ * dependencies need to be read from the repository. The file records the fingerprint of the link replacements. If they
+ * changed, the validator reads all dependencies again, so that no URL keeps an outdated replacement.
+ * </p>
+ * <p>
+ * The validator streams the expected report into a {@link ComparingWriter} that stops at the first difference. It only
+ * renders the complete report when the fix is applied.
+ * </p>
  */
 //[impl->dsn~depnedency.md-file-validator~1]
 public class DependenciesValidator implements Validator {
-    private final File pomFile;
+    private final ProjectSnapshot projectSnapshot;
     private final ProjectDependencyReader projectDependencyReader;
     private final Path dependenciesFile;
     private final BrokenLinkReplacer brokenLinkReplacer;
+    private final boolean keepReferences;
 
     /**
      * Create a new instance of {@link DependenciesValidator}.
      * 
-     * @param fileModelReader     pom file parser
-     * @param artifactModelReader maven dependency reader
-     * @param pomFile             pom file to validate
-     * @param projectDirectory    project root directory
-     * @param brokenLinkReplacer  dependency injection for broken link replacer
+     * @param projectSnapshot         snapshot of the project to validate
+     * @param projectDependencyReader reader for the dependencies and their licenses
+     * @param brokenLinkReplacer      dependency injection for broken link replacer
      */
-    public DependenciesValidator(final MavenProjectFromFileReader fileModelReader,
-            final MavenModelFromRepositoryReader artifactModelReader, final File pomFile, final Path projectDirectory,
-            final BrokenLinkReplacer brokenLinkReplacer) {
+    public DependenciesValidator(final ProjectSnapshot projectSnapshot,
+            final ProjectDependencyReader projectDependencyReader, final BrokenLinkReplacer brokenLinkReplacer) {
+        this(projectSnapshot, projectDependencyReader, brokenLinkReplacer, false);
+    }
+
+    /**
+     * Create a new instance of {@link DependenciesValidator}.
+     * 
+     * @param projectSnapshot         snapshot of the project to validate
+     * @param projectDependencyReader reader for the dependencies and their licenses
+     * @param brokenLinkReplacer      dependency injection for broken link replacer
+     * @param keepReferences          {@code true} to keep the link reference numbers of the existing dependencies.md
+     *                                file
+     */
+    public DependenciesValidator(final ProjectSnapshot projectSnapshot,
+            final ProjectDependencyReader projectDependencyReader, final BrokenLinkReplacer brokenLinkReplacer,
+            final boolean keepReferences) {
         this.brokenLinkReplacer = brokenLinkReplacer;
-        this.projectDependencyReader = new ProjectDependencyReader(fileModelReader, artifactModelReader);
-        this.pomFile = pomFile;
-        this.dependenciesFile = projectDirectory.resolve("dependencies.md");
+        this.keepReferences = keepReferences;
+        this.projectDependencyReader = projectDependencyReader;
+        this.projectSnapshot = projectSnapshot;
+        this.dependenciesFile = projectSnapshot.getProjectDirectory().resolve("dependencies.md");
     }
 
     @Override
-    public List<ValidationFinding> validate() {
-        final String expectedDependenciesPage = generateExpectedReport();
-        if (!this.dependenciesFile.toFile().exists()) {
-            return List.of(ValidationFinding
+    public void validate(final Consumer<ValidationFinding> findingConsumer) {
+        final Optional<String> actualContent = readDependenciesFile();
+        final String linkReplacementsFingerprint = this.brokenLinkReplacer.getFingerprint();
+        final var renderer = new DependencyPageRenderer(this.keepReferences
+                ? actualContent.map(new DependencyPageParser()::parseReferences).orElse(Collections.emptyMap())
+                : Collections.emptyMap(), linkReplacementsFingerprint);
+        final List<ProjectDependency> expectedDependencies;
+        try {
+            expectedDependencies = readExpectedDependencies(actualContent
+                    .map(page -> new DependencyPageParser().parse(page, linkReplacementsFingerprint))
+                    .orElse(Collections.emptyMap()));
+        } catch (final MissingDependenciesException exception) {
+            findingConsumer.accept(ValidationFinding.withMessage(exception.getMessage())
+                    .file(this.dependenciesFile.getFileName()).build());
+            return;
+        }
+        if (actualContent.isEmpty()) {
+            findingConsumer.accept(ValidationFinding
                     .withMessage(ExaError.messageBuilder("E-PK-50")
                             .message("This project does not have a dependencies.md file.").toString())
-                    .andFix(getFix(expectedDependenciesPage)).build());
+                    .file(this.dependenciesFile.getFileName()).andFix(getFix(renderer, expectedDependencies)).build());
         } else {
-            return validateFileContent(expectedDependenciesPage);
+            validateFileContent(actualContent.get(), renderer, expectedDependencies).forEach(findingConsumer);
         }
     }
 
-    private String generateExpectedReport() {
-        final List<ProjectDependency> dependencies = this.projectDependencyReader.readDependencies(this.pomFile);
-        final List<ProjectDependency> dependenciesWithFixedLinks = new DependenciesBrokenLinkReplacer(
-                this.brokenLinkReplacer).replaceBrokenLinks(dependencies);
-        return new DependencyPageRenderer().render(dependenciesWithFixedLinks);
+    @Override
+    public Optional<ValidatorInputs> getInputs() {
+        final ValidatorInputs.Builder inputs = ValidatorInputs.builder()
+                .file(this.projectSnapshot.getPomFile().toPath()).files(this.projectSnapshot.getParentPomFiles())
+                .value("imported boms", this.projectSnapshot.getImportedBoms()).file(this.dependenciesFile)
+                .value("link replacements", this.brokenLinkReplacer.getReplacements())
+                .value("keep references", this.keepReferences);
+        new TreeMap<>(this.projectDependencyReader.getResultSettings()).forEach(inputs::value);
+        return Optional.of(inputs.build());
+    }
+
+    @Override
+    public Cost getCost() {
+        return Cost.HIGH;
     }
 
-    private List<ValidationFinding> validateFileContent(final String expectedDependenciesPage) {
+    private Optional<String> readDependenciesFile() {
+        if (!this.dependenciesFile.toFile().exists()) {
+            return Optional.empty();
+        }
         try {
-            final var actualContent = Files.readString(this.dependenciesFile);
-            if (!actualContent.equals(expectedDependenciesPage)) {
-                return List.of(ValidationFinding.withMessage(ExaError.messageBuilder("E-PK-53").message(
-                        "The dependencies.md file has outdated content.\nExpected content:\n{{expected content|uq}}",
-                        expectedDependenciesPage).toString())//
-                        .andFix(getFix(expectedDependenciesPage)).build());
-            }
+            return Optional.of(Files.readString(this.dependenciesFile));
         } catch (final IOException exception) {
             throw new IllegalStateException(ExaError.messageBuilder("E-PK-52")
                     .message("Failed to read dependencies.md for validation.").toString(), exception);
         }
+    }
+
+    private List<ProjectDependency> readExpectedDependencies(final Map<String, DependencyMetadata> knownMetadata) {
+        final List<ProjectDependency> dependencies = this.projectDependencyReader
+                .readDependencies(this.projectSnapshot.getMavenProject(), knownMetadata);
+        return new DependenciesBrokenLinkReplacer(this.brokenLinkReplacer).replaceBrokenLinks(dependencies);
+    }
+
+    private List<ValidationFinding> validateFileContent(final String actualContent,
+            final DependencyPageRenderer renderer, final List<ProjectDependency> expectedDependencies) {
+        final Optional<ComparingWriter.Difference> difference = findFirstDifference(actualContent, renderer,
+                expectedDependencies);
+        if (difference.isPresent()) {
+            return List.of(ValidationFinding.withMessage(ExaError.messageBuilder("E-PK-53").message(
+                    "The dependencies.md file has outdated content. First difference in line {{line}}:\n"
+                            + "expected: {{expected line|uq}}\nactual:   {{actual line|uq}}",
+                    difference.get().getLineNumber(), describeLine(difference.get().getExpectedLine()),
+                    describeLine(difference.get().getActualLine())).toString())//
+                    .file(this.dependenciesFile.getFileName()).andFix(getFix(renderer, expectedDependencies))
+                    .build());
+        }
         return Collections.emptyList();
     }
 
-    private ValidationFinding.Fix getFix(final String expectedDependenciesPage) {
-        return log -> {
-            try {
-                Files.writeString(this.dependenciesFile, expectedDependenciesPage, StandardOpenOption.CREATE,
-                        StandardOpenOption.TRUNCATE_EXISTING);
-            } catch (final IOException exception) {
-                throw new IllegalStateException(
-                        ExaError.messageBuilder("E-PK-51").message("Failed to write dependencies.md file.").toString(),
-                        exception);
-            }
-        };
+    private Optional<ComparingWriter.Difference> findFirstDifference(final String actualContent,
+            final DependencyPageRenderer renderer, final List<ProjectDependency> expectedDependencies) {
+        try (final var comparingWriter = new ComparingWriter(new StringReader(actualContent))) {
+            renderer.render(expectedDependencies, comparingWriter);
+            comparingWriter.close();
+            return comparingWriter.getDifference();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-PK-87")
+                    .message("Unexpected exception while comparing the dependencies.md file.").ticketMitigation()
+                    .toString(), exception);
+        }
+    }
+
+    private static String describeLine(final String line) {
+        return line == null ? "<end of file>" : line;
+    }
+
+    private ValidationFinding.Fix getFix(final DependencyPageRenderer renderer,
+            final List<ProjectDependency> expectedDependencies) {
+        return (log, transaction) -> transaction.writeFile(this.dependenciesFile,
+                renderer.render(expectedDependencies));
     }
 }
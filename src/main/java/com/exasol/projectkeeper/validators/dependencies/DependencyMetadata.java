@@ -0,0 +1,67 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.util.List;
+
+/**
+ * The information about a dependency that the dependencies page needs: its name, website and licenses.
+ * <p>
+ * In contrast to {@link ProjectDependency} this does not depend on how a project uses the dependency, so it can be
+ * cached per artifact.
+ * </p>
+ */
+public class DependencyMetadata {
+    private final String name;
+    private final String websiteUrl;
+    private final List<License> licenses;
+
+    /**
+     * Create a new instance of {@link DependencyMetadata}.
+     *
+     * @param name       dependency name
+     * @param websiteUrl dependency website or {@code null}
+     * @param licenses   list of licenses
+     */
+    public DependencyMetadata(final String name, final String websiteUrl, final List<License> licenses) {
+        this.name = name;
+        this.websiteUrl = websiteUrl;
+        this.licenses = licenses;
+    }
+
+    /**
+     * Get the name of the dependency.
+     *
+     * @return dependency name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the website of the dependency.
+     *
+     * @return website url or {@code null}
+     */
+    public String getWebsiteUrl() {
+        return this.websiteUrl;
+    }
+
+    /**
+     * Get the licenses of the dependency.
+     *
+     * @return list of licenses
+     */
+    public List<License> getLicenses() {
+        return this.licenses;
+    }
+
+    /**
+     * Create a {@link ProjectDependency} from this metadata.
+     *
+     * @param type        how the project uses the dependency
+     * @param coordinates maven coordinates ({@code groupId:artifactId:version}) of the dependency
+     * @return project dependency
+     */
+    public ProjectDependency toProjectDependency(final ProjectDependency.Type type, final String coordinates) {
+        return new ProjectDependency(this.name, this.websiteUrl, this.licenses, type, coordinates);
+    }
+}
@@ -0,0 +1,174 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent cache for the {@link DependencyMetadata} of artifacts, keyed by groupId, artifactId and version.
+ * <p>
+ * The pom file of a released artifact never changes. For that entries of released versions never expire. Entries of
+ * SNAPSHOT versions expire after a configurable time.
+ * </p>
+ * <p>
+ * Each artifact is stored in its own properties file. Files are written to a temporary file first and then moved to
+ * their final name, so readers never see a partially written entry. That makes the cache safe for concurrent use by
+ * multiple threads and by multiple builds on the same machine. If two builds store the same artifact at the same time,
+ * the last one wins, which is fine since both store the same information.
+ * </p>
+ * <p>
+ * The cache is an optimization only. Entries that can't be read are treated as missing and entries that can't be
+ * written are skipped.
+ * </p>
+ */
+public class DependencyMetadataCache {
+    private static final Pattern UNSAFE_FILE_NAME_CHARACTERS = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final String KEY_COORDINATES = "coordinates";
+    private static final String KEY_STORED_AT = "storedAt";
+    private static final String KEY_NAME = "name";
+    private static final String KEY_URL = "url";
+    private static final String KEY_LICENSE_PREFIX = "license.";
+    private final Path directory;
+    private final Duration snapshotTimeToLive;
+    private final Clock clock;
+
+    /**
+     * Create a new instance of {@link DependencyMetadataCache}.
+     *
+     * @param directory          directory that stores the cache
+     * @param snapshotTimeToLive time after which entries of SNAPSHOT versions expire
+     */
+    public DependencyMetadataCache(final Path directory, final Duration snapshotTimeToLive) {
+        this(directory, snapshotTimeToLive, Clock.systemUTC());
+    }
+
+    DependencyMetadataCache(final Path directory, final Duration snapshotTimeToLive, final Clock clock) {
+        this.directory = directory;
+        this.snapshotTimeToLive = snapshotTimeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Get a cached entry.
+     *
+     * @param groupId    maven group id
+     * @param artifactId maven artifact id
+     * @param version    version
+     * @return cached metadata or empty if there is no valid entry
+     */
+    public Optional<DependencyMetadata> get(final String groupId, final String artifactId, final String version) {
+        final Path file = getFile(groupId, artifactId, version);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        final Properties properties = new Properties();
+        try (final Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (final IOException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+        if (!getCoordinates(groupId, artifactId, version).equals(properties.getProperty(KEY_COORDINATES))
+                || isExpired(version, properties)) {
+            return Optional.empty();
+        }
+        return Optional.of(toMetadata(properties));
+    }
+
+    private boolean isExpired(final String version, final Properties properties) {
+        if (!isSnapshot(version)) {
+            return false;
+        }
+        try {
+            final long storedAt = Long.parseLong(properties.getProperty(KEY_STORED_AT, ""));
+            return this.clock.millis() - storedAt > this.snapshotTimeToLive.toMillis();
+        } catch (final NumberFormatException exception) {
+            return true;
+        }
+    }
+
+    private static boolean isSnapshot(final String version) {
+        return version.endsWith("-SNAPSHOT");
+    }
+
+    private static DependencyMetadata toMetadata(final Properties properties) {
+        final List<License> licenses = new ArrayList<>();
+        for (int index = 0; properties.containsKey(KEY_LICENSE_PREFIX + index + ".present"); index++) {
+            licenses.add(new License(properties.getProperty(KEY_LICENSE_PREFIX + index + ".name"),
+                    properties.getProperty(KEY_LICENSE_PREFIX + index + ".url")));
+        }
+        return new DependencyMetadata(properties.getProperty(KEY_NAME), properties.getProperty(KEY_URL), licenses);
+    }
+
+    /**
+     * Store an entry.
+     *
+     * @param groupId    maven group id
+     * @param artifactId maven artifact id
+     * @param version    version
+     * @param metadata   metadata to store
+     */
+    public void put(final String groupId, final String artifactId, final String version,
+            final DependencyMetadata metadata) {
+        final Path file = getFile(groupId, artifactId, version);
+        try {
+            Files.createDirectories(file.getParent());
+            final Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (final Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    toProperties(getCoordinates(groupId, artifactId, version), metadata).store(writer, null);
+                }
+                moveAtomically(temporaryFile, file);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (final IOException exception) {
+            // The cache is an optimization only. The next run reads the metadata from the repository again.
+        }
+    }
+
+    private Properties toProperties(final String coordinates, final DependencyMetadata metadata) {
+        final var properties = new Properties();
+        properties.setProperty(KEY_COORDINATES, coordinates);
+        properties.setProperty(KEY_STORED_AT, String.valueOf(this.clock.millis()));
+        setIfNotNull(properties, KEY_NAME, metadata.getName());
+        setIfNotNull(properties, KEY_URL, metadata.getWebsiteUrl());
+        final List<License> licenses = metadata.getLicenses();
+        for (int index = 0; index < licenses.size(); index++) {
+            properties.setProperty(KEY_LICENSE_PREFIX + index + ".present", "true");
+            setIfNotNull(properties, KEY_LICENSE_PREFIX + index + ".name", licenses.get(index).getName());
+            setIfNotNull(properties, KEY_LICENSE_PREFIX + index + ".url", licenses.get(index).getUrl());
+        }
+        return properties;
+    }
+
+    private static void setIfNotNull(final Properties properties, final String key, final String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+    private static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path getFile(final String groupId, final String artifactId, final String version) {
+        return this.directory.resolve(toFileName(groupId)).resolve(toFileName(artifactId))
+                .resolve(toFileName(version) + ".properties");
+    }
+
+    private static String toFileName(final String coordinate) {
+        return UNSAFE_FILE_NAME_CHARACTERS.matcher(coordinate).replaceAll("_");
+    }
+
+    private static String getCoordinates(final String groupId, final String artifactId, final String version) {
+        return groupId + ":" + artifactId + ":" + version;
+    }
+}
@@ -0,0 +1,38 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.util.List;
+
+import com.exasol.errorreporting.ExaError;
+
+/**
+ * Exception thrown by {@link ProjectDependencyReader} in offline mode if the licenses of some dependencies are neither
+ * in the local repository nor in the license cache.
+ */
+public class MissingDependenciesException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+    private final List<String> missingDependencies;
+
+    /**
+     * Create a new instance of {@link MissingDependenciesException}.
+     *
+     * @param missingDependencies coordinates ({@code groupId:artifactId:version}) of the missing dependencies
+     */
+    public MissingDependenciesException(final List<String> missingDependencies) {
+        super(ExaError.messageBuilder("E-PK-84").message(
+                "Could not read the licenses of {{count}} dependencies in offline mode. "
+                        + "They are missing in the local repository: {{dependencies|uq}}.",
+                missingDependencies.size(), String.join(", ", missingDependencies))
+                .mitigation("Build the project once with network access or copy the pom files to the local repository.")
+                .toString());
+        this.missingDependencies = List.copyOf(missingDependencies);
+    }
+
+    /**
+     * Get the coordinates of the missing dependencies.
+     *
+     * @return coordinates ({@code groupId:artifactId:version}) in the order of the pom file
+     */
+    public List<String> getMissingDependencies() {
+        return this.missingDependencies;
+    }
+}
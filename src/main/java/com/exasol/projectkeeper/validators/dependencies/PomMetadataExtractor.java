@@ -0,0 +1,349 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.*;
+
+import com.exasol.projectkeeper.profiling.Profiler;
+
+/**
+ * Lightweight reader for the {@link DependencyMetadata} of an artifact.
+ * <p>
+ * Building a model with Maven's project builder interpolates the whole pom, activates profiles and builds the parent
+ * chain completely, although the dependencies page only needs three fields. This class instead streams the artifact's
+ * pom file from the local repository with StAX and only reads the name, the url, the licenses and the parent. It walks
+ * up the parent chain only while it still misses the url or the licenses and applies Maven's inheritance rules:
+ * </p>
+ * <ul>
+ * <li>The name is not inherited. If it is missing, the artifact id is used, like for models from the project
+ * builder.</li>
+ * <li>The licenses are inherited if the pom does not declare any.</li>
+ * <li>The url is inherited with the artifact id appended, unless the parent disables this with
+ * {@code child.project.url.inherit.append.path="false"}.</li>
+ * </ul>
+ * <p>
+ * If the pom or one of its parents is not in the local repository, or if one of the fields needs interpolation, this
+ * class returns nothing so that the caller can fall back to the project builder.
+ * </p>
+ * <p>
+ * Many dependencies share the same parents, for example {@code org.apache:apache} or
+ * {@code org.sonatype.oss:oss-parent}. For that this class keeps each parent pom it read for its whole lifetime.
+ * Concurrent requests for the same parent wait for a single load. Use one instance for all lookups of a run.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class PomMetadataExtractor {
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final int MAX_PARENT_DEPTH = 32;
+    private final Path localRepository;
+    private final Map<String, CompletableFuture<Optional<PomFields>>> parentPoms = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new instance of {@link PomMetadataExtractor}.
+     *
+     * @param localRepository base directory of the local maven repository
+     */
+    public PomMetadataExtractor(final Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Read the metadata of an artifact from the local repository.
+     *
+     * @param groupId    maven group id
+     * @param artifactId maven artifact id
+     * @param version    version
+     * @return metadata or empty if the metadata can only be read using the project builder
+     */
+    public Optional<DependencyMetadata> extract(final String groupId, final String artifactId, final String version) {
+        return Profiler.measure("extract pom metadata", () -> {
+            try {
+                return Optional.of(extractMetadata(groupId, artifactId, version));
+            } catch (final FallbackRequiredException exception) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private DependencyMetadata extractMetadata(final String groupId, final String artifactId, final String version)
+            throws FallbackRequiredException {
+        final PomFields pom = readPom(groupId, artifactId, version);
+        final String name = isBlank(pom.name) ? pom.artifactId : pom.name;
+        return new DependencyMetadata(requireLiteral(name), resolveUrl(pom, 0), resolveLicenses(pom, 0));
+    }
+
+    private String resolveUrl(final PomFields pom, final int depth) throws FallbackRequiredException {
+        if (pom.url != null) {
+            return requireLiteral(pom.url);
+        } else if (pom.parent == null) {
+            return null;
+        } else {
+            final PomFields parent = readParent(pom, depth);
+            final String parentUrl = resolveUrl(parent, depth + 1);
+            if (parentUrl == null || !parent.appendArtifactIdToChildUrl) {
+                return parentUrl;
+            } else {
+                return appendPath(parentUrl, requireLiteral(pom.artifactId));
+            }
+        }
+    }
+
+    private List<License> resolveLicenses(final PomFields pom, final int depth) throws FallbackRequiredException {
+        if (!pom.licenses.isEmpty()) {
+            for (final License license : pom.licenses) {
+                requireLiteral(license.getName());
+                requireLiteral(license.getUrl());
+            }
+            return pom.licenses;
+        } else if (pom.parent == null) {
+            return Collections.emptyList();
+        } else {
+            return resolveLicenses(readParent(pom, depth), depth + 1);
+        }
+    }
+
+    private PomFields readParent(final PomFields pom, final int depth) throws FallbackRequiredException {
+        if (depth >= MAX_PARENT_DEPTH) {
+            throw new FallbackRequiredException();
+        }
+        final Coordinates parent = pom.parent;
+        final String groupId = requireLiteral(parent.groupId);
+        final String artifactId = requireLiteral(parent.artifactId);
+        final String version = requireLiteral(parent.version);
+        final String key = groupId + ":" + artifactId + ":" + version;
+        final var load = new CompletableFuture<Optional<PomFields>>();
+        final CompletableFuture<Optional<PomFields>> existingLoad = this.parentPoms.putIfAbsent(key, load);
+        if (existingLoad != null) {
+            return existingLoad.join().orElseThrow(FallbackRequiredException::new);
+        }
+        try {
+            load.complete(readPomIfAvailable(groupId, artifactId, version));
+        } catch (final RuntimeException exception) {
+            this.parentPoms.remove(key, load);
+            load.completeExceptionally(exception);
+            throw exception;
+        }
+        return load.join().orElseThrow(FallbackRequiredException::new);
+    }
+
+    private Optional<PomFields> readPomIfAvailable(final String groupId, final String artifactId,
+            final String version) {
+        try {
+            return Optional.of(readPom(groupId, artifactId, version));
+        } catch (final FallbackRequiredException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Append the artifact id of a child to the url of its parent like Maven does.
+     *
+     * @param parentUrl       url of the parent
+     * @param childArtifactId artifact id of the child
+     * @return url of the child
+     */
+    static String appendPath(final String parentUrl, final String childArtifactId) {
+        String path = parentUrl + "/" + childArtifactId;
+        final var cleanedPath = new StringBuilder();
+        final int protocolIndex = path.indexOf("://");
+        if (protocolIndex > -1) {
+            cleanedPath.append(path, 0, protocolIndex + 3);
+            path = path.substring(protocolIndex + 3);
+        }
+        if (path.startsWith("/")) {
+            cleanedPath.append('/');
+        }
+        return cleanedPath.append(resolvePath(path)).toString();
+    }
+
+    private static String resolvePath(final String path) {
+        final Deque<String> segments = new ArrayDeque<>();
+        for (final String segment : path.split("/")) {
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else if (!segment.isEmpty() && !segment.equals(".")) {
+                segments.addLast(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private PomFields readPom(final String groupId, final String artifactId, final String version)
+            throws FallbackRequiredException {
+        if (groupId == null || artifactId == null || version == null) {
+            throw new FallbackRequiredException();
+        }
+        final Path pomFile = this.localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId)
+                .resolve(version).resolve(artifactId + "-" + version + ".pom");
+        if (!Files.isRegularFile(pomFile)) {
+            throw new FallbackRequiredException();
+        }
+        try (final InputStream stream = Files.newInputStream(pomFile)) {
+            return parse(stream);
+        } catch (final IOException | XMLStreamException exception) {
+            throw new FallbackRequiredException();
+        }
+    }
+
+    /**
+     * Parse the fields of a pom file that are relevant for the metadata.
+     *
+     * @param stream pom file content
+     * @return parsed fields
+     * @throws XMLStreamException if the pom file is not valid XML
+     */
+    static PomFields parse(final InputStream stream) throws XMLStreamException {
+        final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(stream);
+        try {
+            final var pom = new PomFields();
+            final Deque<String> path = new ArrayDeque<>();
+            License license = null;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String element = reader.getLocalName();
+                    final String parentPath = String.join("/", path);
+                    if (path.isEmpty()) {
+                        pom.appendArtifactIdToChildUrl = !"false"
+                                .equals(reader.getAttributeValue(null, "child.project.url.inherit.append.path"));
+                        path.addLast(element);
+                    } else if (parentPath.equals("project") && element.equals("licenses")) {
+                        path.addLast(element);
+                    } else if (parentPath.equals("project/licenses") && element.equals("license")) {
+                        license = new License(null, null);
+                        path.addLast(element);
+                    } else if (parentPath.equals("project") && element.equals("parent")) {
+                        pom.parent = new Coordinates();
+                        path.addLast(element);
+                    } else if (parentPath.equals("project/licenses/license")) {
+                        license = readLicenseElement(reader, element, license);
+                    } else {
+                        readElement(reader, parentPath + "/" + element, pom);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (reader.getLocalName().equals("license") && license != null) {
+                        pom.licenses.add(license);
+                        license = null;
+                    }
+                    path.pollLast();
+                }
+            }
+            return pom;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readElement(final XMLStreamReader reader, final String elementPath, final PomFields pom)
+            throws XMLStreamException {
+        switch (elementPath) {
+        case "project/name":
+            pom.name = reader.getElementText().trim();
+            break;
+        case "project/url":
+            pom.url = reader.getElementText().trim();
+            break;
+        case "project/artifactId":
+            pom.artifactId = reader.getElementText().trim();
+            break;
+        case "project/parent/groupId":
+            pom.parent.groupId = reader.getElementText().trim();
+            break;
+        case "project/parent/artifactId":
+            pom.parent.artifactId = reader.getElementText().trim();
+            break;
+        case "project/parent/version":
+            pom.parent.version = reader.getElementText().trim();
+            break;
+        default:
+            skipElement(reader);
+        }
+    }
+
+    private static License readLicenseElement(final XMLStreamReader reader, final String element,
+            final License license) throws XMLStreamException {
+        if (element.equals("name")) {
+            return new License(reader.getElementText().trim(), license.getUrl());
+        } else if (element.equals("url")) {
+            return new License(license.getName(), reader.getElementText().trim());
+        } else {
+            skipElement(reader);
+            return license;
+        }
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isBlank(final String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String requireLiteral(final String value) throws FallbackRequiredException {
+        if (value != null && value.contains("${")) {
+            throw new FallbackRequiredException();
+        }
+        return value;
+    }
+
+    /**
+     * Fields of a pom file that are relevant for the metadata.
+     */
+    static class PomFields {
+        private String name;
+        private String url;
+        private String artifactId;
+        private Coordinates parent;
+        private final List<License> licenses = new ArrayList<>();
+        private boolean appendArtifactIdToChildUrl = true;
+
+        String getName() {
+            return this.name;
+        }
+
+        String getUrl() {
+            return this.url;
+        }
+
+        List<License> getLicenses() {
+            return this.licenses;
+        }
+    }
+
+    private static class Coordinates {
+        private String groupId;
+        private String artifactId;
+        private String version;
+    }
+
+    /**
+     * Thrown if the metadata can't be read without the project builder.
+     */
+    private static class FallbackRequiredException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -10,9 +10,10 @@ public class ProjectDependency {
     private final String websiteUrl;
     private final List<License> licenses;
     private final Type type;
+    private final String coordinates;
 
     /**
-     * Create a new instance of {@link ProjectDependency}.
+     * Create a new instance of {@link ProjectDependency} without coordinates.
      * 
      * @param name       dependency name
      * @param websiteUrl dependency website
@@ -21,10 +22,25 @@ public class ProjectDependency {
      */
     public ProjectDependency(final String name, final String websiteUrl, final List<License> licenses,
             final Type type) {
+        this(name, websiteUrl, licenses, type, null);
+    }
+
+    /**
+     * Create a new instance of {@link ProjectDependency}.
+     * 
+     * @param name        dependency name
+     * @param websiteUrl  dependency website
+     * @param licenses    list of licenses
+     * @param type        dependency type
+     * @param coordinates maven coordinates ({@code groupId:artifactId:version}) or {@code null}
+     */
+    public ProjectDependency(final String name, final String websiteUrl, final List<License> licenses,
+            final Type type, final String coordinates) {
         this.name = name;
         this.websiteUrl = websiteUrl;
         this.licenses = licenses;
         this.type = type;
+        this.coordinates = coordinates;
     }
 
     /**
@@ -63,6 +79,15 @@ public class ProjectDependency {
         return this.type;
     }
 
+    /**
+     * Get the maven coordinates of this dependency.
+     * 
+     * @return coordinates ({@code groupId:artifactId:version}) or {@code null} if unknown
+     */
+    public String getCoordinates() {
+        return this.coordinates;
+    }
+
     /**
      * Type of a {@link ProjectDependency}.
      */
@@ -74,6 +99,8 @@ public class ProjectDependency {
         /** Test dependency */
         TEST,
         /** Plugin */
-        PLUGIN
+        PLUGIN,
+        /** Transitive dependency that the project ships */
+        TRANSITIVE
     }
 }
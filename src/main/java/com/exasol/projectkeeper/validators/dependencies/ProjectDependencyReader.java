@@ -2,8 +2,9 @@ package com.exasol.projectkeeper.validators.dependencies;
 
 import static com.exasol.projectkeeper.validators.dependencies.ProjectDependency.Type.*;
 
-import java.io.File;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,37 +14,186 @@ import org.apache.maven.project.ProjectBuildingException;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.pom.MavenModelFromRepositoryReader;
-import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.profiling.Profiler;
 
 /**
  * This class reads all dependencies of a pom file (including the plugins) together with their license.
+ * <p>
+ * Reading the license of a dependency builds the dependency's model, which can mean downloading its pom file and the
+ * pom files of its parents. For that this class reads the licenses concurrently. The result is in the order of the
+ * dependencies in the pom file, independent of which lookup finishes first.
+ * </p>
+ * <p>
+ * In offline mode this class only reads from the license cache and the local repository. It reads all dependencies it
+ * can and then reports the missing ones together in a {@link MissingDependenciesException}.
+ * </p>
+ * <p>
+ * Optionally this class also reads the transitive dependencies that the project ships. It collects the dependency
+ * graph while the licenses of the direct dependencies are read. Reading the licenses of the transitive dependencies
+ * starts after the graph is complete.
+ * </p>
+ * <p>
+ * Callers can pass the metadata they already know, for example from the existing dependencies.md file. This class uses
+ * it for all released versions instead of reading them again, so that an unchanged dependency list needs no
+ * repository access at all.
+ * </p>
  */
 public class ProjectDependencyReader {
-    private final MavenProjectFromFileReader fileModelReader;
     private final MavenModelFromRepositoryReader artifactModelReader;
+    private final int parallelism;
+    private final DependencyMetadataCache metadataCache;
+    private final PomMetadataExtractor pomMetadataExtractor;
+    private final boolean offline;
+    private final boolean reuseKnownMetadata;
+    private final TransitiveDependencyCollector transitiveDependencyCollector;
 
     /**
-     * Create a new instance of {@link ProjectDependencyReader}.
+     * Create a new instance of {@link ProjectDependencyReader} that reads the licenses sequentially with the project
+     * builder.
      * 
-     * @param fileModelReader     pom file parser
      * @param artifactModelReader maven dependency reader
      */
-    public ProjectDependencyReader(final MavenProjectFromFileReader fileModelReader,
-            final MavenModelFromRepositoryReader artifactModelReader) {
-        this.fileModelReader = fileModelReader;
-        this.artifactModelReader = artifactModelReader;
+    public ProjectDependencyReader(final MavenModelFromRepositoryReader artifactModelReader) {
+        this(builder(artifactModelReader));
+    }
+
+    private ProjectDependencyReader(final Builder builder) {
+        this.artifactModelReader = builder.artifactModelReader;
+        this.parallelism = builder.parallelism;
+        this.metadataCache = builder.metadataCache;
+        this.pomMetadataExtractor = builder.pomMetadataExtractor;
+        this.offline = builder.offline;
+        this.reuseKnownMetadata = builder.reuseKnownMetadata;
+        this.transitiveDependencyCollector = builder.transitiveDependencyCollector;
+    }
+
+    /**
+     * Get a {@link Builder} for {@link ProjectDependencyReader}.
+     * 
+     * @param artifactModelReader maven dependency reader
+     * @return builder
+     */
+    public static Builder builder(final MavenModelFromRepositoryReader artifactModelReader) {
+        return new Builder(artifactModelReader);
     }
 
     /**
-     * Read the dependencies of the pom file (including plugins).
+     * Get the settings that change the result of {@link #readDependencies(MavenProject, Map)}.
+     * <p>
+     * Settings that only change how fast the dependencies are read, like the parallelism, are not included.
+     * </p>
      * 
-     * @param pomFile pom file to read
+     * @return settings by name
+     */
+    public Map<String, Object> getResultSettings() {
+        return Map.of("offline", this.offline, "reuse known metadata", this.reuseKnownMetadata,
+                "transitive dependencies", this.transitiveDependencyCollector != null);
+    }
+
+    /**
+     * Read the dependencies of a maven project (including plugins).
+     * 
+     * @param project maven project to read the dependencies from
      * @return list of dependencies
+     * @throws MissingDependenciesException in offline mode if some dependencies are not available locally
+     */
+    public List<ProjectDependency> readDependencies(final MavenProject project) {
+        return readDependencies(project, Collections.emptyMap());
+    }
+
+    /**
+     * Read the dependencies of a maven project (including plugins) and reuse metadata that is already known.
+     * 
+     * @param project       maven project to read the dependencies from
+     * @param knownMetadata known metadata by coordinates ({@code groupId:artifactId:version})
+     * @return list of dependencies
+     * @throws MissingDependenciesException in offline mode if some dependencies are not available locally
+     */
+    public List<ProjectDependency> readDependencies(final MavenProject project,
+            final Map<String, DependencyMetadata> knownMetadata) {
+        final List<Dependency> dependencies = getDependenciesIncludingPlugins(project.getModel())
+                .collect(Collectors.toCollection(ArrayList::new));
+        final Map<String, DependencyMetadata> reusableMetadata = this.reuseKnownMetadata ? knownMetadata
+                : Collections.emptyMap();
+        final List<Optional<ProjectDependency>> licenses;
+        if (this.transitiveDependencyCollector == null && (this.parallelism == 1 || dependencies.size() <= 1)) {
+            licenses = dependencies.stream().map(dependency -> getLicense(dependency, project, reusableMetadata))
+                    .collect(Collectors.toList());
+        } else {
+            licenses = readLicensesConcurrently(dependencies, project, reusableMetadata);
+        }
+        final List<String> missingDependencies = new ArrayList<>();
+        for (int index = 0; index < dependencies.size(); index++) {
+            if (licenses.get(index).isEmpty()) {
+                missingDependencies.add(getCoordinates(dependencies.get(index)));
+            }
+        }
+        if (!missingDependencies.isEmpty()) {
+            throw new MissingDependenciesException(missingDependencies);
+        }
+        return licenses.stream().map(Optional::get).collect(Collectors.toList());
+    }
+
+    private static String getCoordinates(final Dependency dependency) {
+        return dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion();
+    }
+
+    /**
+     * Read the licenses using a thread pool.
+     * <p>
+     * In transitive mode this method appends the transitive dependencies to {@code dependencies} once the dependency
+     * graph is collected.
+     * </p>
      */
-    public List<ProjectDependency> readDependencies(final File pomFile) {
-        final var project = readProjectFromPomFile(pomFile);
-        return getDependenciesIncludingPlugins(project.getModel()).map(dependency -> getLicense(dependency, project))
-                .collect(Collectors.toList());
+    private List<Optional<ProjectDependency>> readLicensesConcurrently(final List<Dependency> dependencies,
+            final MavenProject project, final Map<String, DependencyMetadata> knownMetadata) {
+        final ExecutorService executor = Executors.newFixedThreadPool(this.parallelism,
+                new LicenseReaderThreadFactory());
+        try {
+            final List<Future<Optional<ProjectDependency>>> licenses = new ArrayList<>(dependencies.size());
+            for (final Dependency dependency : dependencies) {
+                licenses.add(submitLicenseRead(executor, dependency, project, knownMetadata));
+            }
+            if (this.transitiveDependencyCollector != null) {
+                this.transitiveDependencyCollector.collect(project, dependency -> {
+                    dependencies.add(dependency);
+                    licenses.add(submitLicenseRead(executor, dependency, project, knownMetadata));
+                });
+            }
+            final List<Optional<ProjectDependency>> result = new ArrayList<>(dependencies.size());
+            for (final Future<Optional<ProjectDependency>> license : licenses) {
+                result.add(waitForLicense(license));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Future<Optional<ProjectDependency>> submitLicenseRead(final ExecutorService executor,
+            final Dependency dependency, final MavenProject project,
+            final Map<String, DependencyMetadata> knownMetadata) {
+        return executor.submit(Profiler.propagate(() -> getLicense(dependency, project, knownMetadata)));
+    }
+
+    private Optional<ProjectDependency> waitForLicense(final Future<Optional<ProjectDependency>> license) {
+        try {
+            return license.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw getCancellationException();
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(ExaError.messageBuilder("F-PK-83")
+                        .message("Reading a license failed with an unexpected exception.").ticketMitigation()
+                        .toString(), cause);
+            }
+        }
     }
 
     private Stream<Dependency> getDependenciesIncludingPlugins(final Model model) {
@@ -60,14 +210,62 @@ public class ProjectDependencyReader {
         return dependency;
     }
 
-    private ProjectDependency getLicense(final Dependency dependency, final MavenProject project) {
+    private Optional<ProjectDependency> getLicense(final Dependency dependency, final MavenProject project,
+            final Map<String, DependencyMetadata> knownMetadata) {
+        abortIfCancelled();
+        final String coordinates = getCoordinates(dependency);
+        final Optional<DependencyMetadata> metadata;
+        if (knownMetadata.containsKey(coordinates) && isReleased(dependency)) {
+            metadata = Optional.of(knownMetadata.get(coordinates));
+        } else if (this.metadataCache != null && dependency.getVersion() != null) {
+            metadata = this.metadataCache
+                    .get(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion())
+                    .or(() -> {
+                        final Optional<DependencyMetadata> readMetadata = readMetadata(dependency, project);
+                        readMetadata.ifPresent(value -> this.metadataCache.put(dependency.getGroupId(),
+                                dependency.getArtifactId(), dependency.getVersion(), value));
+                        return readMetadata;
+                    });
+        } else {
+            metadata = readMetadata(dependency, project);
+        }
+        return metadata.map(
+                value -> value.toProjectDependency(mapScopeToDependencyType(dependency.getScope()), coordinates));
+    }
+
+    private static boolean isReleased(final Dependency dependency) {
+        return dependency.getVersion() != null && !dependency.getVersion().endsWith("-SNAPSHOT");
+    }
+
+    private Optional<DependencyMetadata> readMetadata(final Dependency dependency, final MavenProject project) {
+        if (this.pomMetadataExtractor != null) {
+            final Optional<DependencyMetadata> metadata = this.pomMetadataExtractor.extract(dependency.getGroupId(),
+                    dependency.getArtifactId(), dependency.getVersion());
+            if (metadata.isPresent()) {
+                return metadata;
+            }
+        }
+        if (this.offline) {
+            return readMetadataOffline(dependency);
+        } else {
+            return Optional.of(readMetadataWithProjectBuilder(dependency, project));
+        }
+    }
+
+    private Optional<DependencyMetadata> readMetadataOffline(final Dependency dependency) {
         try {
-            final var dependenciesPom = this.artifactModelReader.readModel(dependency.getArtifactId(),
-                    dependency.getGroupId(), dependency.getVersion(), project.getRemoteArtifactRepositories());
-            final List<License> licenses = dependenciesPom.getLicenses().stream()
-                    .map(license -> new License(license.getName(), license.getUrl())).collect(Collectors.toList());
-            return new ProjectDependency(getDependencyName(dependenciesPom), dependenciesPom.getUrl(), licenses,
-                    mapScopeToDependencyType(dependency.getScope()));
+            return Optional.of(toMetadata(this.artifactModelReader.readModelOffline(dependency.getArtifactId(),
+                    dependency.getGroupId(), dependency.getVersion())));
+        } catch (final ProjectBuildingException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private DependencyMetadata readMetadataWithProjectBuilder(final Dependency dependency,
+            final MavenProject project) {
+        try {
+            return toMetadata(this.artifactModelReader.readModel(dependency.getArtifactId(), dependency.getGroupId(),
+                    dependency.getVersion(), project.getRemoteArtifactRepositories()));
         } catch (final ProjectBuildingException exception) {
             throw new IllegalStateException(ExaError.messageBuilder("E-PK-49")
                     .message("Failed to get license information for dependency {{groupId}}:{{artifactId}}.",
@@ -76,6 +274,27 @@ public class ProjectDependencyReader {
         }
     }
 
+    private DependencyMetadata toMetadata(final Model dependenciesPom) {
+        final List<License> licenses = dependenciesPom.getLicenses().stream()
+                .map(license -> new License(license.getName(), license.getUrl())).collect(Collectors.toList());
+        return new DependencyMetadata(getDependencyName(dependenciesPom), dependenciesPom.getUrl(), licenses);
+    }
+
+    /**
+     * Reading the dependencies is the slowest part of the validation. For that it stops when the validator was
+     * cancelled, for example by the fail-fast mode.
+     */
+    private void abortIfCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw getCancellationException();
+        }
+    }
+
+    private CancellationException getCancellationException() {
+        return new CancellationException(
+                ExaError.messageBuilder("E-PK-78").message("Reading the dependencies was cancelled.").toString());
+    }
+
     private String getDependencyName(final Model dependenciesPom) {
         if (dependenciesPom.getName() == null || dependenciesPom.getName().isBlank()) {
             return dependenciesPom.getArtifactId();
@@ -100,6 +319,8 @@ public class ProjectDependencyReader {
                 return RUNTIME;
             case "plugin":
                 return PLUGIN;
+            case TransitiveDependencyCollector.TRANSITIVE_SCOPE:
+                return TRANSITIVE;
             default:
                 throw new IllegalStateException(ExaError.messageBuilder("F-PK-54")
                         .message("Unimplemented dependency scope {{scope}}.", scope).ticketMitigation().toString());
@@ -107,12 +328,118 @@ public class ProjectDependencyReader {
         }
     }
 
-    private MavenProject readProjectFromPomFile(final File pomFile) {
-        try {
-            return this.fileModelReader.readProject(pomFile);
-        } catch (final MavenProjectFromFileReader.ReadFailedException exception) {
-            throw new IllegalStateException(
-                    ExaError.messageBuilder("E-PK-48").message("Failed to parse pom.xml file.").toString(), exception);
+    private static class LicenseReaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final var thread = new Thread(runnable,
+                    "project-keeper-license-reader-" + this.threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Builder for {@link ProjectDependencyReader}.
+     */
+    public static class Builder {
+        private final MavenModelFromRepositoryReader artifactModelReader;
+        private int parallelism = 1;
+        private DependencyMetadataCache metadataCache;
+        private PomMetadataExtractor pomMetadataExtractor;
+        private boolean offline = false;
+        private boolean reuseKnownMetadata = true;
+        private TransitiveDependencyCollector transitiveDependencyCollector;
+
+        private Builder(final MavenModelFromRepositoryReader artifactModelReader) {
+            this.artifactModelReader = artifactModelReader;
+        }
+
+        /**
+         * Set the maximum number of licenses that are read at the same time. Default: 1
+         * 
+         * @param parallelism maximum number of concurrent reads
+         * @return self for fluent programming
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException(ExaError.messageBuilder("E-PK-82")
+                        .message("Invalid dependency parallelism {{parallelism}}. The parallelism must be at least 1.",
+                                parallelism)
+                        .mitigation("Change the dependencyParallelism configuration in your pom.xml file.")
+                        .toString());
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set a persistent cache for the licenses. Default: no cache
+         * 
+         * @param metadataCache license cache
+         * @return self for fluent programming
+         */
+        public Builder metadataCache(final DependencyMetadataCache metadataCache) {
+            this.metadataCache = metadataCache;
+            return this;
+        }
+
+        /**
+         * Set an extractor that reads the licenses directly from the local repository before falling back to the
+         * project builder. Default: always use the project builder
+         * 
+         * @param pomMetadataExtractor lightweight pom reader
+         * @return self for fluent programming
+         */
+        public Builder pomMetadataExtractor(final PomMetadataExtractor pomMetadataExtractor) {
+            this.pomMetadataExtractor = pomMetadataExtractor;
+            return this;
+        }
+
+        /**
+         * Only read from the license cache and the local repository. Dependencies that are not available locally are
+         * reported together in a {@link MissingDependenciesException}. Default: {@code false}
+         * 
+         * @param offline {@code true} to never access remote repositories
+         * @return self for fluent programming
+         */
+        public Builder offline(final boolean offline) {
+            this.offline = offline;
+            return this;
+        }
+
+        /**
+         * Use the metadata passed to {@link ProjectDependencyReader#readDependencies(MavenProject, Map)} for released
+         * versions instead of reading it again. Default: {@code true}
+         * 
+         * @param reuseKnownMetadata {@code false} to always read the metadata
+         * @return self for fluent programming
+         */
+        public Builder reuseKnownMetadata(final boolean reuseKnownMetadata) {
+            this.reuseKnownMetadata = reuseKnownMetadata;
+            return this;
+        }
+
+        /**
+         * Also read the transitive dependencies that the project ships. Default: direct dependencies only
+         * 
+         * @param transitiveDependencyCollector collector for the transitive dependencies
+         * @return self for fluent programming
+         */
+        public Builder transitiveDependencyCollector(
+                final TransitiveDependencyCollector transitiveDependencyCollector) {
+            this.transitiveDependencyCollector = transitiveDependencyCollector;
+            return this;
+        }
+
+        /**
+         * Build the {@link ProjectDependencyReader}.
+         * 
+         * @return built {@link ProjectDependencyReader}
+         */
+        public ProjectDependencyReader build() {
+            return new ProjectDependencyReader(this);
         }
     }
 }
@@ -0,0 +1,118 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DependencyNode;
+
+import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.profiling.Profiler;
+
+/**
+ * Collector for the transitive dependencies that a project ships, for example in a fat JAR.
+ * <p>
+ * This class collects the dependency graph of the project's compile and runtime dependencies once using the Maven
+ * resolver. That only reads pom files, no JARs. It walks the graph breadth first and reports each transitive dependency
+ * once, in the version that the resolver's conflict resolution selected. Direct dependencies of any scope are already
+ * listed in their own section and skipped, as are dependencies that are not shipped (test and provided scope).
+ * </p>
+ * <p>
+ * The resolver only returns the graph when it is complete. So the walk starts after the collection finished. The
+ * caller can still overlap the collection with other work, like reading the licenses of the direct dependencies.
+ * </p>
+ */
+public class TransitiveDependencyCollector {
+    /** Scope that {@link ProjectDependencyReader} maps to {@link ProjectDependency.Type#TRANSITIVE}. */
+    static final String TRANSITIVE_SCOPE = "transitive";
+    private static final Set<String> SHIPPED_SCOPES = Set.of("", "compile", "runtime");
+    private final RepositorySystem repositorySystem;
+    private final RepositorySystemSession repositorySession;
+
+    /**
+     * Create a new instance of {@link TransitiveDependencyCollector}.
+     *
+     * @param repositorySystem  maven resolver
+     * @param repositorySession repository session
+     */
+    public TransitiveDependencyCollector(final RepositorySystem repositorySystem,
+            final RepositorySystemSession repositorySession) {
+        this.repositorySystem = repositorySystem;
+        this.repositorySession = repositorySession;
+    }
+
+    /**
+     * Collect the transitive dependencies of a project.
+     * <p>
+     * This method blocks until the resolver collected the complete graph. Then it calls the consumer for each
+     * transitive dependency in breadth first order.
+     * </p>
+     *
+     * @param project  maven project
+     * @param consumer consumer for the transitive dependencies. Their scope is {@value #TRANSITIVE_SCOPE}.
+     */
+    public void collect(final MavenProject project, final Consumer<Dependency> consumer) {
+        final List<Dependency> shippedDependencies = project.getModel().getDependencies().stream()
+                .filter(dependency -> isShipped(dependency.getScope())).collect(Collectors.toList());
+        final DependencyNode root = collectGraph(project, shippedDependencies);
+        final Set<String> visited = project.getModel().getDependencies().stream()
+                .map(dependency -> dependency.getGroupId() + ":" + dependency.getArtifactId())
+                .collect(Collectors.toCollection(HashSet::new));
+        final Deque<DependencyNode> queue = new ArrayDeque<>(root.getChildren());
+        while (!queue.isEmpty()) {
+            final DependencyNode node = queue.removeFirst();
+            queue.addAll(node.getChildren());
+            final Artifact artifact = node.getArtifact();
+            if (node.getDependency() != null && isShipped(node.getDependency().getScope())
+                    && visited.add(artifact.getGroupId() + ":" + artifact.getArtifactId())) {
+                consumer.accept(toTransitiveDependency(artifact));
+            }
+        }
+    }
+
+    private DependencyNode collectGraph(final MavenProject project, final List<Dependency> shippedDependencies) {
+        final ArtifactTypeRegistry typeRegistry = this.repositorySession.getArtifactTypeRegistry();
+        final var request = new CollectRequest();
+        request.setDependencies(shippedDependencies.stream()
+                .map(dependency -> RepositoryUtils.toDependency(dependency, typeRegistry))
+                .collect(Collectors.toList()));
+        final Model model = project.getModel();
+        if (model.getDependencyManagement() != null) {
+            request.setManagedDependencies(model.getDependencyManagement().getDependencies().stream()
+                    .map(dependency -> RepositoryUtils.toDependency(dependency, typeRegistry))
+                    .collect(Collectors.toList()));
+        }
+        request.setRepositories(RepositoryUtils.toRepos(project.getRemoteArtifactRepositories()));
+        try {
+            return Profiler.measure("collect transitive dependencies",
+                    () -> this.repositorySystem.collectDependencies(this.repositorySession, request).getRoot());
+        } catch (final DependencyCollectionException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("E-PK-85")
+                    .message("Failed to collect the transitive dependencies of {{project}}.", project.getArtifactId())
+                    .toString(), exception);
+        }
+    }
+
+    private static boolean isShipped(final String scope) {
+        return scope == null || SHIPPED_SCOPES.contains(scope);
+    }
+
+    private static Dependency toTransitiveDependency(final Artifact artifact) {
+        final var dependency = new Dependency();
+        dependency.setGroupId(artifact.getGroupId());
+        dependency.setArtifactId(artifact.getArtifactId());
+        dependency.setVersion(artifact.getBaseVersion());
+        dependency.setScope(TRANSITIVE_SCOPE);
+        return dependency;
+    }
+}
@@ -0,0 +1,195 @@
+package com.exasol.projectkeeper.validators.dependencies.renderer;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.exasol.projectkeeper.validators.dependencies.*;
+
+/**
+ * Parser for reports created by {@link DependencyPageRenderer}.
+ * <p>
+ * It reads the name, website and licenses of each dependency back from the tables and uses the hidden coordinates
+ * comment to find out which dependency each row belongs to. To make sure that the parsed information is exact, it
+ * renders the parsed dependencies again with the report's own link references and only returns them if the result is
+ * identical to the parsed report. For reports from older versions, reports that were edited manually and reports it
+ * can't parse for any other reason, it returns an empty result.
+ * </p>
+ * <p>
+ * The URLs in the report already have the link replacements applied. Since the original URLs are lost, the parser only
+ * returns the metadata if the report was rendered with the same link replacements as the current ones.
+ * </p>
+ */
+public class DependencyPageParser {
+    private static final Pattern LINK = Pattern.compile("\\[(.*)\\]\\[(\\d+)\\]");
+    private static final Pattern REFERENCE = Pattern.compile("\\[(\\d+)\\]: (.*)");
+    private static final String SECTION_PREFIX = "## ";
+    private static final String SECTION_SUFFIX = " Dependencies";
+    private static final int TABLE_HEADER_LINES = 2;
+
+    /**
+     * Parse a dependencies report that was rendered without link replacements.
+     *
+     * @param page content of the dependencies.md file
+     * @return metadata of the dependencies by coordinates ({@code groupId:artifactId:version}) or an empty map if the
+     *         report can't be parsed exactly
+     */
+    public Map<String, DependencyMetadata> parse(final String page) {
+        return parse(page, null);
+    }
+
+    /**
+     * Parse a dependencies report.
+     *
+     * @param page                        content of the dependencies.md file
+     * @param linkReplacementsFingerprint fingerprint of the current link replacements, see
+     *                                    {@link com.exasol.projectkeeper.BrokenLinkReplacer#getFingerprint()}
+     * @return metadata of the dependencies by coordinates ({@code groupId:artifactId:version}) or an empty map if the
+     *         report can't be parsed exactly or was rendered with different link replacements
+     */
+    public Map<String, DependencyMetadata> parse(final String page, final String linkReplacementsFingerprint) {
+        try {
+            final List<ProjectDependency> dependencies = parseDependencies(page);
+            final String expectedPage = new DependencyPageRenderer(parseReferences(page), linkReplacementsFingerprint)
+                    .render(dependencies);
+            if (!expectedPage.equals(page)) {
+                return Collections.emptyMap();
+            }
+            final Map<String, DependencyMetadata> metadata = new HashMap<>();
+            for (final ProjectDependency dependency : dependencies) {
+                metadata.put(dependency.getCoordinates(), new DependencyMetadata(dependency.getName(),
+                        dependency.getWebsiteUrl(), dependency.getLicenses()));
+            }
+            return metadata;
+        } catch (final InvalidPageException exception) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Read the link references of a dependencies report.
+     *
+     * @param page content of the dependencies.md file
+     * @return reference numbers by URL
+     */
+    public Map<String, Integer> parseReferences(final String page) {
+        final Map<String, Integer> references = new HashMap<>();
+        for (final Map.Entry<String, String> reference : readReferences(page.lines().collect(Collectors.toList()))
+                .entrySet()) {
+            references.merge(reference.getValue(), Integer.valueOf(reference.getKey()), Math::min);
+        }
+        return references;
+    }
+
+    private List<ProjectDependency> parseDependencies(final String page) throws InvalidPageException {
+        final List<String> lines = page.lines().collect(Collectors.toList());
+        final List<String> coordinates = readCoordinates(lines);
+        final Map<String, String> references = readReferences(lines);
+        final List<ProjectDependency> dependencies = new ArrayList<>(coordinates.size());
+        ProjectDependency.Type type = null;
+        int tableLine = 0;
+        for (final String line : lines) {
+            if (line.startsWith(SECTION_PREFIX)) {
+                type = parseSectionType(line);
+                tableLine = 0;
+            } else if (line.startsWith("|") && type != null) {
+                if (tableLine >= TABLE_HEADER_LINES) {
+                    if (dependencies.size() >= coordinates.size()) {
+                        throw new InvalidPageException();
+                    }
+                    dependencies.add(parseRow(line, type, coordinates.get(dependencies.size()), references));
+                }
+                tableLine++;
+            }
+        }
+        if (dependencies.size() != coordinates.size()) {
+            throw new InvalidPageException();
+        }
+        return dependencies;
+    }
+
+    private static List<String> readCoordinates(final List<String> lines) throws InvalidPageException {
+        for (final String line : lines) {
+            if (line.startsWith(DependencyPageRenderer.COORDINATES_COMMENT_START)
+                    && line.endsWith(DependencyPageRenderer.COORDINATES_COMMENT_END)) {
+                final String coordinates = line.substring(DependencyPageRenderer.COORDINATES_COMMENT_START.length(),
+                        line.length() - DependencyPageRenderer.COORDINATES_COMMENT_END.length());
+                return Arrays.asList(coordinates.split(" "));
+            }
+        }
+        throw new InvalidPageException();
+    }
+
+    private static Map<String, String> readReferences(final List<String> lines) {
+        final Map<String, String> references = new HashMap<>();
+        for (final String line : lines) {
+            final Matcher matcher = REFERENCE.matcher(line);
+            if (matcher.matches()) {
+                references.put(matcher.group(1), matcher.group(2));
+            }
+        }
+        return references;
+    }
+
+    private static ProjectDependency.Type parseSectionType(final String line) throws InvalidPageException {
+        if (line.endsWith(SECTION_SUFFIX)) {
+            final String typeName = line.substring(SECTION_PREFIX.length(), line.length() - SECTION_SUFFIX.length());
+            for (final ProjectDependency.Type type : DependencyPageRenderer.SECTION_ORDER) {
+                if (type.name().equalsIgnoreCase(typeName)) {
+                    return type;
+                }
+            }
+        }
+        throw new InvalidPageException();
+    }
+
+    private static ProjectDependency parseRow(final String line, final ProjectDependency.Type type,
+            final String coordinates, final Map<String, String> references) throws InvalidPageException {
+        final String[] cells = line.split("\\|", -1);
+        if (cells.length != 4) {
+            throw new InvalidPageException();
+        }
+        final Link name = parseLink(cells[1].trim(), references);
+        final String licenseCell = cells[2].trim();
+        final List<License> licenses = new ArrayList<>();
+        if (!licenseCell.isEmpty()) {
+            for (final String licenseText : licenseCell.split("; ")) {
+                final Link license = parseLink(licenseText, references);
+                licenses.add(new License(license.text, license.url));
+            }
+        }
+        return new ProjectDependency(name.text, name.url, licenses, type, coordinates);
+    }
+
+    private static Link parseLink(final String text, final Map<String, String> references)
+            throws InvalidPageException {
+        final Matcher matcher = LINK.matcher(text);
+        if (matcher.matches()) {
+            final String url = references.get(matcher.group(2));
+            if (url == null) {
+                throw new InvalidPageException();
+            }
+            return new Link(matcher.group(1), url);
+        } else {
+            return new Link(text, null);
+        }
+    }
+
+    private static class Link {
+        private final String text;
+        private final String url;
+
+        private Link(final String text, final String url) {
+            this.text = text;
+            this.url = url;
+        }
+    }
+
+    /**
+     * Thrown if the report does not have the format of {@link DependencyPageRenderer}.
+     */
+    private static class InvalidPageException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+}
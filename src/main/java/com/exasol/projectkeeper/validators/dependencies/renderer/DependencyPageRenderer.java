@@ -2,19 +2,76 @@ package com.exasol.projectkeeper.validators.dependencies.renderer;
 
 import static com.exasol.projectkeeper.validators.dependencies.ProjectDependency.Type.*;
 
-import java.util.List;
+import java.io.*;
+import java.util.*;
 import java.util.stream.Collectors;
 
+import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.validators.dependencies.License;
 import com.exasol.projectkeeper.validators.dependencies.ProjectDependency;
 
 import net.steppschuh.markdowngenerator.table.Table;
 
 /**
- * String renderer for a dependencies report.
+ * Renderer for a dependencies report.
+ * <p>
+ * The renderer writes the report section by section to a {@link Writer}, so that callers can compare it with an
+ * existing file or write it to a file without keeping the whole report in memory.
+ * </p>
+ * <p>
+ * If all dependencies have coordinates, the report starts with a hidden comment that lists them in the order of the
+ * table rows. {@link DependencyPageParser} uses it to map the rows back to the dependencies. If the renderer knows the
+ * fingerprint of the link replacements that were applied to the URLs, a second hidden comment records it, so that the
+ * parser only reuses the URLs as long as the link replacements stay the same.
+ * </p>
  */
 public class DependencyPageRenderer {
+    /** Start of the hidden comment that lists the coordinates of the dependencies. */
+    static final String COORDINATES_COMMENT_START = "<!-- @dependencies: ";
+    /** End of the hidden comment that lists the coordinates of the dependencies. */
+    static final String COORDINATES_COMMENT_END = " -->";
+    /** Start of the hidden comment that holds the fingerprint of the link replacements. */
+    static final String LINK_REPLACEMENTS_COMMENT_START = "<!-- @link-replacements: ";
+    /** Order of the sections in the report. */
+    static final List<ProjectDependency.Type> SECTION_ORDER = List.of(COMPILE, TEST, RUNTIME, PLUGIN, TRANSITIVE);
     private static final String NEWLINE = System.lineSeparator();
+    private final Map<String, Integer> existingReferences;
+    private final String linkReplacementsFingerprint;
+
+    /**
+     * Create a new instance of {@link DependencyPageRenderer} that numbers the link references from zero in the order
+     * in which the links first appear.
+     */
+    public DependencyPageRenderer() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Create a new instance of {@link DependencyPageRenderer} that keeps the numbers of existing link references.
+     * <p>
+     * Links to the same URLs get the same reference numbers as before and new URLs get numbers after the highest
+     * existing one. That way adding a dependency only adds lines to the page instead of renumbering all references.
+     * </p>
+     * 
+     * @param existingReferences reference numbers by URL, for example from {@link DependencyPageParser#parseReferences}
+     */
+    public DependencyPageRenderer(final Map<String, Integer> existingReferences) {
+        this(existingReferences, null);
+    }
+
+    /**
+     * Create a new instance of {@link DependencyPageRenderer} that keeps the numbers of existing link references and
+     * records the fingerprint of the link replacements.
+     *
+     * @param existingReferences          reference numbers by URL
+     * @param linkReplacementsFingerprint fingerprint of the link replacements that were applied to the URLs, see
+     *                                    {@link com.exasol.projectkeeper.BrokenLinkReplacer#getFingerprint()}
+     */
+    public DependencyPageRenderer(final Map<String, Integer> existingReferences,
+            final String linkReplacementsFingerprint) {
+        this.existingReferences = existingReferences;
+        this.linkReplacementsFingerprint = linkReplacementsFingerprint;
+    }
 
     /**
      * Convert a list of dependencies into a markdown dependency report.
@@ -23,17 +80,53 @@ public class DependencyPageRenderer {
      * @return rendered report
      */
     public String render(final List<ProjectDependency> dependencies) {
-        final var markdownReferenceBuilder = new MarkdownReferenceBuilder();
-        final var reportBuilder = new StringBuilder();
-        reportBuilder.append("<!-- @formatter:off -->" + NEWLINE);
-        reportBuilder.append("# Dependencies" + NEWLINE);
-        reportBuilder.append(buildDependencySectionForScope(dependencies, COMPILE, markdownReferenceBuilder));
-        reportBuilder.append(buildDependencySectionForScope(dependencies, TEST, markdownReferenceBuilder));
-        reportBuilder.append(buildDependencySectionForScope(dependencies, RUNTIME, markdownReferenceBuilder));
-        reportBuilder.append(buildDependencySectionForScope(dependencies, PLUGIN, markdownReferenceBuilder));
-        reportBuilder.append(NEWLINE);
-        reportBuilder.append(markdownReferenceBuilder.getReferences());
-        return reportBuilder.toString();
+        final var writer = new StringWriter();
+        try {
+            render(dependencies, writer);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(ExaError.messageBuilder("F-PK-86")
+                    .message("Unexpected exception while rendering the dependencies report to a string.")
+                    .ticketMitigation().toString(), exception);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Write a markdown dependency report for a list of dependencies.
+     * 
+     * @param dependencies list of dependencies
+     * @param writer       writer for the report
+     * @throws IOException if writing fails
+     */
+    public void render(final List<ProjectDependency> dependencies, final Writer writer) throws IOException {
+        final var markdownReferenceBuilder = new MarkdownReferenceBuilder(this.existingReferences);
+        writer.write("<!-- @formatter:off -->" + NEWLINE);
+        writer.write(buildCoordinatesComment(dependencies));
+        writer.write("# Dependencies" + NEWLINE);
+        for (final ProjectDependency.Type type : SECTION_ORDER) {
+            writer.write(buildDependencySectionForScope(dependencies, type, markdownReferenceBuilder));
+        }
+        writer.write(NEWLINE);
+        writer.write(markdownReferenceBuilder.getReferences());
+    }
+
+    private String buildCoordinatesComment(final List<ProjectDependency> dependencies) {
+        if (dependencies.isEmpty()
+                || dependencies.stream().anyMatch(dependency -> dependency.getCoordinates() == null)) {
+            return "";
+        } else {
+            final String coordinates = SECTION_ORDER.stream()
+                    .flatMap(type -> dependencies.stream().filter(dependency -> dependency.getType().equals(type)))
+                    .map(ProjectDependency::getCoordinates).collect(Collectors.joining(" "));
+            final String coordinatesComment = COORDINATES_COMMENT_START + coordinates + COORDINATES_COMMENT_END
+                    + NEWLINE;
+            if (this.linkReplacementsFingerprint == null) {
+                return coordinatesComment;
+            } else {
+                return coordinatesComment + LINK_REPLACEMENTS_COMMENT_START + this.linkReplacementsFingerprint
+                        + COORDINATES_COMMENT_END + NEWLINE;
+            }
+        }
     }
 
     private String buildDependencySectionForScope(final List<ProjectDependency> dependencies,
@@ -1,44 +1,71 @@
 package com.exasol.projectkeeper.validators.dependencies.renderer;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
+/**
+ * Builder for markdown link references.
+ * <p>
+ * Numbers are only allocated for new URLs, so that the references of a page are dense and in the order in which the
+ * URLs first appear. Optionally the builder keeps the numbers of existing references. Then a URL that already had a
+ * reference gets the same number again and new URLs get numbers after the highest existing one, so that adding a
+ * dependency does not renumber the whole page.
+ * </p>
+ */
 class MarkdownReferenceBuilder {
-    private final Map<String, String> references = new HashMap<>();
-    private int referenceCounter = 0;
+    private final Map<String, Integer> references = new LinkedHashMap<>();
+    private final Map<String, Integer> existingReferences;
+    private int nextReference;
+
+    /**
+     * Create a new instance of {@link MarkdownReferenceBuilder} that numbers the references from zero.
+     */
+    MarkdownReferenceBuilder() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Create a new instance of {@link MarkdownReferenceBuilder} that keeps existing references.
+     *
+     * @param existingReferences reference numbers by URL
+     */
+    MarkdownReferenceBuilder(final Map<String, Integer> existingReferences) {
+        this.existingReferences = existingReferences;
+        this.nextReference = existingReferences.values().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+    }
 
     /**
      * Get a reference for a url.
      * <p>
      * You can use the reference instead of the link like {@code [link name][reference]}.
      * </p>
-     * 
-     * @param name name of the link (used for building the reference)
+     *
+     * @param name name of the link
      * @param url  url the reference should point to
      * @return reference
      */
     public String getReferenceForUrl(final String name, final String url) {
-        final var referenceName = String.valueOf(this.referenceCounter);
-        this.referenceCounter++;
-        if (!this.references.containsKey(url)) {
-            this.references.put(url, referenceName);
-            return referenceName;
+        return String.valueOf(this.references.computeIfAbsent(url, this::allocateReference));
+    }
+
+    private int allocateReference(final String url) {
+        final Integer existingReference = this.existingReferences.get(url);
+        if (existingReference != null) {
+            return existingReference;
         } else {
-            return this.references.get(url);
+            return this.nextReference++;
         }
     }
 
     /**
-     * Get the mapping for the references in markdown format
-     * 
+     * Get the mapping for the used references in markdown format, ordered by reference number.
+     *
      * @return string with the reference mapping. Example: {@code [0]: https://exasol.com}
      */
     public String getReferences() {
         final var stringBuilder = new StringBuilder();
-        for (final Map.Entry<String, String> reference : this.references.entrySet()) {
-            stringBuilder.append("[").append(reference.getValue()).append("]: ").append(reference.getKey())
-                    .append(System.lineSeparator());
-        }
+        this.references.entrySet().stream().sorted(Map.Entry.comparingByValue())
+                .forEach(reference -> stringBuilder.append("[").append(reference.getValue()).append("]: ")
+                        .append(reference.getKey()).append(System.lineSeparator()));
         return stringBuilder.toString();
     }
 }
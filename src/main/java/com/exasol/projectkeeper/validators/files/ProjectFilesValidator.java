@@ -5,12 +5,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import org.apache.maven.plugin.logging.Log;
-
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.*;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
+import com.exasol.projectkeeper.profiling.Profiler;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.Resource;
@@ -24,6 +25,7 @@ public class ProjectFilesValidator implements Validator {
     private final Collection<ProjectKeeperModule> enabledModules;
     private final File projectDirectory;
     private final ExcludedFilesMatcher excludedFilesMatcher;
+    private List<FileTemplate> templates;
 
     /**
      * Crate a new instance of {@link ProjectFilesValidator}.
@@ -40,52 +42,70 @@ public class ProjectFilesValidator implements Validator {
     }
 
     @Override
-    public List<ValidationFinding> validate() {
+    public void validate(final Consumer<ValidationFinding> findingConsumer) {
+        for (final FileTemplate template : getTemplates()) {
+            validate(template).forEach(findingConsumer);
+        }
+    }
+
+    @Override
+    public Optional<ValidatorInputs> getInputs() {
+        return Optional.of(ValidatorInputs.builder().files(getTemplates().stream()
+                .map(template -> this.projectDirectory.toPath().resolve(template.fileName))
+                .collect(Collectors.toList())).build());
+    }
+
+    /**
+     * Get the templates of the enabled modules that are not excluded.
+     * <p>
+     * Scanning the class path for templates is expensive. For that this method only scans once and reads the
+     * templates' content into memory.
+     * </p>
+     *
+     * @return list of templates
+     */
+    private synchronized List<FileTemplate> getTemplates() {
+        if (this.templates == null) {
+            this.templates = Profiler.measure("scan templates", this::scanTemplates);
+        }
+        return this.templates;
+    }
+
+    private List<FileTemplate> scanTemplates() {
         try (final var scanResult = new ClassGraph().acceptPaths("templates/").scan()) {
             return scanResult.getAllResources().stream()//
                     .map(FileTemplate::fromResource)//
                     .filter(template -> this.enabledModules.contains(template.module))
                     .filter(template -> !this.excludedFilesMatcher.isFileExcluded(Path.of(template.fileName)))
-                    .flatMap(template -> validate(template).stream())//
                     .collect(Collectors.toList());
         }
     }
 
     private List<ValidationFinding> validate(final FileTemplate template) {
         final var projectFile = this.projectDirectory.toPath().resolve(template.fileName).toFile();
-        final String templateContent = template.getContent();
+        final String templateContent = template.content;
         if (!projectFile.exists()) {
             return List.of(ValidationFinding
                     .withMessage(ExaError.messageBuilder("E-PK-17").message("Missing required: {{required file}}")
                             .parameter("required file", template.fileName).toString())
-                    .andFix((Log log) -> fixFile(projectFile, templateContent)).build());
+                    .file(Path.of(template.fileName)).andFix((log, transaction) -> transaction.writeFile(projectFile.toPath(), templateContent))
+                    .build());
         }
         if (template.type.equals(TemplateType.REQUIRE_EXACT)) {
-            return validateContent(template.getContent(), template.fileName, projectFile);
+            return validateContent(template.content, template.fileName, projectFile);
         } else {
             return Collections.emptyList();
         }
     }
 
-    private void fixFile(final File projectFile, final String templateContent) {
-        try {
-            projectFile.getParentFile().mkdirs();
-            Files.writeString(projectFile.toPath(), templateContent);
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                    ExaError.messageBuilder("E-PK-16").message("Failed to create or replace {{required file}}.")
-                            .parameter("required file", projectFile.getAbsolutePath()).toString(),
-                    exception);
-        }
-    }
-
     private List<ValidationFinding> validateContent(final String templateContent, final String templateName,
             final File projectFile) {
         if (!isFileEqualWithTemplate(templateContent, projectFile)) {
             return List.of(ValidationFinding
                     .withMessage(ExaError.messageBuilder("E-PK-18").message("Outdated content: {{file name}}")
                             .parameter("file name", templateName).toString())
-                    .andFix((Log log) -> fixFile(projectFile, templateContent)).build());
+                    .file(Path.of(templateName)).andFix((log, transaction) -> transaction.writeFile(projectFile.toPath(), templateContent))
+                    .build());
         } else {
             return Collections.emptyList();
         }
@@ -118,14 +138,14 @@ public class ProjectFilesValidator implements Validator {
     }
 
     private static class FileTemplate {
-        private final Resource template;
+        private final String content;
         private final TemplateType type;
         private final String fileName;
         private final ProjectKeeperModule module;
 
-        private FileTemplate(final Resource template, final TemplateType type, final String fileName,
+        private FileTemplate(final String content, final TemplateType type, final String fileName,
                 final ProjectKeeperModule module) {
-            this.template = template;
+            this.content = content;
             this.type = type;
             this.fileName = fileName;
             this.module = module;
@@ -144,25 +164,26 @@ public class ProjectFilesValidator implements Validator {
             final var templateType = TemplateType.fromString(pathRelativeToTemplates.get(1));
             final var fileName = String.join(File.separator,
                     pathRelativeToTemplates.subList(2, pathRelativeToTemplates.size()));
-            return new FileTemplate(templateResource, templateType, fileName, module);
+            return new FileTemplate(readContent(templateResource), templateType, fileName, module);
         }
 
         /**
-         * Get the content of the template.
+         * Read the content of the template.
          * <p>
          * This method gets the content of the template dependant of the format of the current OS (windows / linux line
          * endings).
          * </p>
          * 
+         * @param template template resource
          * @return template's content
          */
-        public String getContent() {
+        private static String readContent(final Resource template) {
             try {
-                final String templateContent = this.template.getContentAsString();
+                final String templateContent = template.getContentAsString();
                 return templateContent.replace("\r", "").replace("\n", System.lineSeparator());
             } catch (final IOException exception) {
                 throw new IllegalStateException(ExaError.messageBuilder("F-PK-57")
-                        .message("Failed to read template {{template}}.", this.template.getPath()).ticketMitigation()
+                        .message("Failed to read template {{template}}.", template.getPath()).ticketMitigation()
                         .toString(), exception);
             }
         }
@@ -15,11 +15,13 @@ import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.FixTransaction;
+import com.exasol.projectkeeper.profiling.Profiler;
 
 /**
  * This class implements access to a pom file.
  */
-class PomFileIO {
+public class PomFileIO {
     private final File pomFile;
     private final Document content;
 
@@ -29,8 +31,18 @@ class PomFileIO {
      * @param pomFile pom file to wrap.
      */
     public PomFileIO(final File pomFile) {
+        this(pomFile, parsePomFile(pomFile));
+    }
+
+    /**
+     * Create a new instance of {@link PomFileIO} for an already parsed pom file.
+     *
+     * @param pomFile pom file to wrap.
+     * @param content parsed content of the pom file
+     */
+    public PomFileIO(final File pomFile, final Document content) {
         this.pomFile = pomFile;
-        this.content = parsePomFile();
+        this.content = content;
     }
 
     /**
@@ -43,28 +55,44 @@ class PomFileIO {
     }
 
     /**
-     * Write the changes that were made on the content back to the file.
+     * Stage writing the changes that were made on the content back to the file.
      * <p>
      * The {@link Document} is mutable. So you can change it for example using {@link Document#appendChild(Node)}.
      * </p>
+     * 
+     * @param transaction transaction that writes the file on commit
      */
-    public void writeChanges() {
+    public void writeChanges(final FixTransaction transaction) {
+        Profiler.measure("write pom", () -> {
+            serialize(transaction);
+            return null;
+        });
+    }
+
+    private void serialize(final FixTransaction transaction) {
         try {
             final var transformerFactory = TransformerFactory.newInstance();
             transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
             transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
             final var transformer = transformerFactory.newTransformer();
             final var domSource = new DOMSource(this.content);
-            final var streamResult = new StreamResult(this.pomFile);
-            transformer.transform(domSource, streamResult);
+            final var serializedPom = new ByteArrayOutputStream();
+            transformer.transform(domSource, new StreamResult(serializedPom));
+            transaction.writeFile(this.pomFile.toPath(), serializedPom.toByteArray());
         } catch (final TransformerException exception) {
             throw new IllegalStateException(
                     ExaError.messageBuilder("E-PK-12").message("Failed to replace pom-file.").toString(), exception);
         }
     }
 
-    private Document parsePomFile() {
-        try (final InputStream pomFileStream = new FileInputStream(this.pomFile)) {
+    /**
+     * Parse a pom file into a {@link Document}.
+     *
+     * @param pomFile pom file to parse
+     * @return parsed pom file
+     */
+    public static Document parsePomFile(final File pomFile) {
+        try (final InputStream pomFileStream = new FileInputStream(pomFile)) {
             final var documentBuilderFactory = DocumentBuilderFactory.newInstance();
             documentBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
             documentBuilderFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
@@ -1,11 +1,14 @@
 package com.exasol.projectkeeper.validators.pom;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.exasol.errorreporting.ExaError;
 import com.exasol.projectkeeper.*;
+import com.exasol.projectkeeper.incremental.ValidatorInputs;
 import com.exasol.projectkeeper.validators.pom.dependencies.JacocoAgentDependencyValidator;
 import com.exasol.projectkeeper.validators.pom.plugin.*;
 
@@ -25,38 +28,46 @@ public class PomFileValidator implements Validator {
     final Collection<ProjectKeeperModule> enabledModules;
     private final Collection<String> excludedPlugins;
     private final PomFileIO pomFileIO;
+    private final File pomFile;
 
     /**
      * Create a new instance of {@link PomFileValidator}.
      *
      * @param enabledModules  list of enables modules
      * @param excludedPlugins list of plugins (group_id:artifact_id) to exclude
-     * @param pomFile         pom file to create the runner for.
+     * @param projectSnapshot snapshot of the project whose pom file is validated
      */
     public PomFileValidator(final Collection<ProjectKeeperModule> enabledModules,
-            final Collection<String> excludedPlugins, final File pomFile) {
+            final Collection<String> excludedPlugins, final ProjectSnapshot projectSnapshot) {
         this.enabledModules = enabledModules;
         this.excludedPlugins = excludedPlugins;
-        this.pomFileIO = new PomFileIO(pomFile);
+        this.pomFile = projectSnapshot.getPomFile();
+        this.pomFileIO = new PomFileIO(this.pomFile, projectSnapshot.getPomDocument());
     }
 
     @Override
-    public List<ValidationFinding> validate() {
+    public void validate(final Consumer<ValidationFinding> findingConsumer) {
+        // The fixes of the pom validators depend on each other. For that they are reported as a single finding.
         final List<ValidationFinding> findings = new ArrayList<>();
         ALL_VALIDATORS.stream().filter(validator -> this.enabledModules.contains(validator.getModule()))
                 .filter(validator -> !validator.isExcluded(this.excludedPlugins)).forEach(
                         template -> template.validate(this.pomFileIO.getContent(), this.enabledModules, findings::add));
         if (!findings.isEmpty()) {
-            return List.of(getCompoundFinding(findings));
-        } else {
-            return Collections.emptyList();
+            findingConsumer.accept(getCompoundFinding(findings));
         }
     }
 
+    @Override
+    public Optional<ValidatorInputs> getInputs() {
+        return Optional.of(ValidatorInputs.builder().file(this.pomFile.toPath())
+                .value("modules", new TreeSet<>(this.enabledModules))
+                .value("excluded plugins", new TreeSet<>(this.excludedPlugins)).build());
+    }
+
     private ValidationFinding getCompoundFinding(final List<ValidationFinding> findings) {
         return ValidationFinding.withMessage(ExaError.messageBuilder("E-PK-45")
                 .message("Pom file is invalid:\n{{pom findings|uq}}", concatFindingMessages(findings)).toString())
-                .andFix(getFix(findings)).build();
+                .file(Path.of(this.pomFile.getName())).andFix(getFix(findings)).build();
     }
 
     private String concatFindingMessages(final List<ValidationFinding> findings) {
@@ -64,9 +75,9 @@ public class PomFileValidator implements Validator {
     }
 
     private ValidationFinding.Fix getFix(final List<ValidationFinding> findings) {
-        return log -> {
-            findings.forEach(finding -> finding.getFix().fixError(log));
-            this.pomFileIO.writeChanges();
+        return (log, transaction) -> {
+            findings.forEach(finding -> finding.getFix().fixError(log, transaction));
+            this.pomFileIO.writeChanges(transaction);
         };
     }
 }
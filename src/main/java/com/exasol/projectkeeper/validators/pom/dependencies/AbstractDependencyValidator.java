@@ -10,6 +10,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.w3c.dom.*;
 
 import com.exasol.errorreporting.ExaError;
+import com.exasol.projectkeeper.FixTransaction;
 import com.exasol.projectkeeper.ProjectKeeperModule;
 import com.exasol.projectkeeper.ValidationFinding;
 import com.exasol.projectkeeper.validators.pom.AbstractPomValidator;
@@ -65,10 +66,10 @@ public abstract class AbstractDependencyValidator extends AbstractPomValidator i
     }
 
     private ValidationFinding.Fix getFix(final Document pom) {
-        return log -> {
+        return (log, transaction) -> {
             createObjectPathIfNotExists(runXPath(pom, "/project"), List.of("dependencies"));
             final Node dependencies = runXPath(pom, DEPENDENCIES_XPATH);
-            final Element dependencyTemplate = createTemplate(pom, log);
+            final Element dependencyTemplate = createTemplate(pom, log, transaction);
             dependencies.appendChild(dependencyTemplate);
         };
     }
@@ -88,7 +89,7 @@ public abstract class AbstractDependencyValidator extends AbstractPomValidator i
         validateDependencyHasProperty(expectedScope, dependency, findingConsumer);
     }
 
-    private Element createTemplate(final Document pom, final Log log) {
+    private Element createTemplate(final Document pom, final Log log, final FixTransaction transaction) {
         final var dependencyTemplate = pom.createElement("dependency");
         final var artifactIdField = pom.createElement("artifactId");
         artifactIdField.appendChild(pom.createTextNode(this.artifactId));
@@ -99,7 +100,7 @@ public abstract class AbstractDependencyValidator extends AbstractPomValidator i
         final var versionField = pom.createElement("version");
         versionField.appendChild(pom.createTextNode(this.version));
         dependencyTemplate.appendChild(versionField);
-        validateDependency(dependencyTemplate, finding -> finding.getFix().fixError(log));
+        validateDependency(dependencyTemplate, finding -> finding.getFix().fixError(log, transaction));
         return dependencyTemplate;
     }
 
@@ -132,12 +133,12 @@ public abstract class AbstractDependencyValidator extends AbstractPomValidator i
     }
 
     private ValidationFinding.Fix getMissingPropertyFix(final Element expectedProperty, final Node dependency) {
-        return log -> dependency.appendChild(dependency.getOwnerDocument().adoptNode(expectedProperty));
+        return (log, transaction) -> dependency.appendChild(dependency.getOwnerDocument().adoptNode(expectedProperty));
     }
 
     private ValidationFinding.Fix getWrongPropertyValueFix(final Element expectedProperty, final Node dependency,
             final Node property) {
-        return log -> dependency.replaceChild(dependency.getOwnerDocument().adoptNode(expectedProperty), property);
+        return (log, transaction) -> dependency.replaceChild(dependency.getOwnerDocument().adoptNode(expectedProperty), property);
     }
 
     enum Scope {
@@ -11,7 +11,6 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.apache.maven.plugin.logging.Log;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
@@ -77,10 +76,10 @@ public abstract class AbstractPluginPomValidator extends AbstractPomValidator im
 
     private ValidationFinding.Fix getFixForMissingPlugin(final Document pom,
             final Collection<ProjectKeeperModule> enabledModules) {
-        return (Log log) -> {
+        return (log, transaction) -> {
             createObjectPathIfNotExists(runXPath(pom, "/project"), List.of("build", "plugins"));
             final var plugin = pom.importNode(getPluginTemplate(), true);
-            validatePluginConfiguration(plugin, enabledModules, finding -> finding.getFix().fixError(log));
+            validatePluginConfiguration(plugin, enabledModules, finding -> finding.getFix().fixError(log, transaction));
             runXPath(pom, PLUGINS_XPATH).appendChild(plugin);
         };
     }
@@ -152,7 +151,7 @@ public abstract class AbstractPluginPomValidator extends AbstractPomValidator im
     }
 
     private ValidationFinding.Fix getCopyFixForMissingProperty(final Node plugin, final String missingPropertiesXPath) {
-        return (Log log) -> {
+        return (log, transaction) -> {
             final List<String> pathSegments = XPathSplitter.split(missingPropertiesXPath);
             findAndCopyFirstMissingPropertyFromTemplate(plugin, pathSegments);
         };
@@ -216,7 +215,7 @@ public abstract class AbstractPluginPomValidator extends AbstractPomValidator im
                             .message("The plugin {{PLUGIN}} has an illegal property {{PROPERTY}}.")
                             .mitigation("Please remove it.").parameter("PLUGIN", this.pluginArtifactId)
                             .parameter("PROPERTY", propertyXpath).toString())
-                    .andFix(log -> node.getParentNode().removeChild(node)).build());
+                    .andFix((log, transaction) -> node.getParentNode().removeChild(node)).build());
         }
     }
 
@@ -227,7 +226,7 @@ public abstract class AbstractPluginPomValidator extends AbstractPomValidator im
                     .message("The {{plugin|uq}}'s configuration-property {{property path}} has an illegal value.",
                             this.pluginArtifactId, propertyXpath)
                     .toString())//
-                    .andFix((Log log) -> {
+                    .andFix((log, transaction) -> {
                         final var importedProperty = plugin.getOwnerDocument().importNode(templateProperty, true);
                         property.getParentNode().replaceChild(importedProperty, property);
                     }).build());
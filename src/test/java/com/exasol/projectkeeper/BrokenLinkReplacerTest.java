@@ -2,6 +2,7 @@ package com.exasol.projectkeeper;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -38,4 +39,18 @@ class BrokenLinkReplacerTest {
         final BrokenLinkReplacer replacer = new BrokenLinkReplacer(Collections.emptyList());
         assertThat(replacer.replaceIfBroken(null), equalTo(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFingerprintIsStable() {
+        assertThat(new BrokenLinkReplacer(List.of("http://a.com|http://b.com")).getFingerprint(),
+                equalTo(new BrokenLinkReplacer(List.of("http://a.com|http://b.com")).getFingerprint()));
+    }
+
+    @Test
+    void testFingerprintChangesWithReplacements() {
+        final String fingerprint = new BrokenLinkReplacer(List.of("http://a.com|http://b.com")).getFingerprint();
+        assertThat(new BrokenLinkReplacer(List.of("http://a.com|http://c.com")).getFingerprint(),
+                not(equalTo(fingerprint)));
+        assertThat(new BrokenLinkReplacer(Collections.emptyList()).getFingerprint(), not(equalTo(fingerprint)));
+    }
+}
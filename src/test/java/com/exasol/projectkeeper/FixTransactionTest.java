@@ -0,0 +1,122 @@
+package com.exasol.projectkeeper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FixTransactionTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testNothingIsWrittenBeforeCommit() {
+        final Path file = this.tempDir.resolve("file.txt");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "content");
+        assertThat(Files.exists(file), equalTo(false));
+    }
+
+    @Test
+    void testCommitCreatesFileAndParentDirectories() throws IOException {
+        final Path file = this.tempDir.resolve("dir/sub-dir/file.txt");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "content");
+        final Set<Path> changedFiles = transaction.commit();
+        assertThat(Files.readString(file), equalTo("content"));
+        assertThat(changedFiles, contains(file));
+    }
+
+    @Test
+    void testLastWriteOfSameFileWins() throws IOException {
+        final Path file = this.tempDir.resolve("file.txt");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "first");
+        transaction.writeFile(this.tempDir.resolve("other/../file.txt"), "second");
+        transaction.commit();
+        assertThat(Files.readString(file), equalTo("second"));
+    }
+
+    @Test
+    void testUnchangedFileIsNotWritten() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final FileTime oldModificationTime = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(file, oldModificationTime);
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "content");
+        final Set<Path> changedFiles = transaction.commit();
+        assertThat(changedFiles, empty());
+        assertThat(Files.getLastModifiedTime(file), equalTo(oldModificationTime));
+    }
+
+    @Test
+    void testGetChangedContent() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "new content");
+        assertThat(transaction.getChangedContent(file).map(String::new).orElseThrow(), equalTo("new content"));
+    }
+
+    @Test
+    void testGetChangedContentIsEmptyForUnchangedFile() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "content");
+        assertThat(transaction.getChangedContent(file).isEmpty(), equalTo(true));
+        assertThat(transaction.getChangedContent(this.tempDir.resolve("other.txt")).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testDeleteFile() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.deleteFile(file);
+        assertThat(transaction.commit(), contains(file));
+        assertThat(Files.exists(file), equalTo(false));
+    }
+
+    @Test
+    void testDeleteAfterWriteDeletes() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(file, "new content");
+        transaction.deleteFile(file);
+        transaction.commit();
+        assertThat(Files.exists(file), equalTo(false));
+    }
+
+    @Test
+    void testNoTemporaryFilesAreLeft() throws IOException {
+        final FixTransaction transaction = new FixTransaction();
+        transaction.writeFile(this.tempDir.resolve("a.txt"), "a");
+        transaction.writeFile(this.tempDir.resolve("b.txt"), "b");
+        transaction.commit();
+        try (final var files = Files.list(this.tempDir)) {
+            assertThat(files.map(path -> path.getFileName().toString()).toArray(),
+                    arrayContainingInAnyOrder("a.txt", "b.txt"));
+        }
+    }
+
+    @Test
+    void testFailingFixLeavesProjectUnchanged() {
+        final Path file = this.tempDir.resolve("file.txt");
+        final ValidationFinding.Fix fix = (log, transaction) -> {
+            transaction.writeFile(file, "content");
+            throw new IllegalStateException("fix failed");
+        };
+        final Log log = mock(Log.class);
+        assertThrows(IllegalStateException.class, () -> fix.fixError(log));
+        assertThat(Files.exists(file), equalTo(false));
+    }
+}
@@ -0,0 +1,168 @@
+package com.exasol.projectkeeper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.maven.model.*;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+
+import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.repository.GitRepository;
+import com.exasol.projectkeeper.validators.SimpleMavenProjectFromFileReader;
+import com.exasol.projectkeeper.validators.TestMavenModel;
+
+class ProjectSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPomFileIsReadOnlyOnce() throws IOException, MavenProjectFromFileReader.ReadFailedException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        final MavenProjectFromFileReader reader = spy(new SimpleMavenProjectFromFileReader());
+        final ProjectSnapshot snapshot = createSnapshot(reader);
+        snapshot.getMavenProject();
+        snapshot.getMavenModel();
+        verify(reader, times(1)).readProject(any());
+    }
+
+    @Test
+    void testMavenModelIsCopied() throws IOException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        final ProjectSnapshot snapshot = createSnapshot(new SimpleMavenProjectFromFileReader());
+        final String version = snapshot.getMavenModel().getVersion();
+        snapshot.getMavenModel().setVersion("changed");
+        snapshot.getMavenProject().getModel().setVersion("changed");
+        assertThat(snapshot.getMavenModel().getVersion(), equalTo(version));
+    }
+
+    @Test
+    void testPomDocumentIsCopied() throws IOException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        final ProjectSnapshot snapshot = createSnapshot(new SimpleMavenProjectFromFileReader());
+        final Document document = snapshot.getPomDocument();
+        document.removeChild(document.getDocumentElement());
+        assertThat(snapshot.getPomDocument().getDocumentElement(), notNullValue());
+    }
+
+    @Test
+    void testPomDocumentIsCopiedConcurrently() throws IOException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        final ProjectSnapshot snapshot = createSnapshot(new SimpleMavenProjectFromFileReader());
+        final long documentsWithProject = IntStream.range(0, 100).parallel()
+                .mapToObj(index -> snapshot.getPomDocument())
+                .filter(document -> document.getDocumentElement().getNodeName().equals("project")).count();
+        assertThat(documentsWithProject, equalTo(100L));
+    }
+
+    @Test
+    void testPomContentIsReadFromContentFile() throws IOException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        final TestMavenModel stagedModel = new TestMavenModel();
+        stagedModel.setVersion("9.9.9");
+        final Path stagedDir = this.tempDir.resolve("staged");
+        Files.createDirectories(stagedDir);
+        stagedModel.writeAsPomToProject(stagedDir);
+        final File pomFile = this.tempDir.resolve("pom.xml").toFile();
+        final ProjectSnapshot snapshot = new ProjectSnapshot(this.tempDir, pomFile,
+                stagedDir.resolve("pom.xml").toFile(), new SimpleMavenProjectFromFileReader(),
+                new GitRepository(this.tempDir));
+        assertThat(snapshot.getMavenModel().getVersion(), equalTo("9.9.9"));
+        assertThat(snapshot.getPomFile(), equalTo(pomFile));
+    }
+
+    @Test
+    void testNoPreviousRelease() throws IOException, GitAPIException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            final ProjectSnapshot snapshot = createSnapshot(new SimpleMavenProjectFromFileReader());
+            assertThat(snapshot.getPreviousReleaseModel().isEmpty(), equalTo(true));
+        }
+    }
+
+    @Test
+    void testPreviousReleaseModel() throws IOException, GitAPIException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            final TestMavenModel oldModel = new TestMavenModel();
+            oldModel.addDependency("0.0.1");
+            oldModel.writeAsPomToProject(this.tempDir);
+            git.add().addFilepattern("pom.xml").call();
+            git.commit().setMessage("release").call();
+            git.tag().setName("0.1.0").call();
+            final TestMavenModel currentModel = new TestMavenModel();
+            currentModel.setVersion("0.2.0");
+            currentModel.writeAsPomToProject(this.tempDir);
+            final ProjectSnapshot snapshot = createSnapshot(new SimpleMavenProjectFromFileReader());
+            final Model previousRelease = snapshot.getPreviousReleaseModel().orElseThrow();
+            assertThat(previousRelease.getDependencies().get(0).getVersion(), equalTo("0.0.1"));
+        }
+    }
+
+    @Test
+    void testParentPomFiles() {
+        final File parentPom = this.tempDir.resolve("parent/pom.xml").toFile();
+        final File grandParentPom = this.tempDir.resolve("repository/grand-parent.pom").toFile();
+        final MavenProject grandParent = new MavenProject(new Model());
+        grandParent.setFile(grandParentPom);
+        final MavenProject parent = new MavenProject(new Model());
+        parent.setFile(parentPom);
+        parent.setParent(grandParent);
+        final ProjectSnapshot snapshot = createSnapshot(pomFile -> {
+            final MavenProject project = new MavenProject(new Model());
+            project.setParent(parent);
+            return project;
+        });
+        assertThat(snapshot.getParentPomFiles(), contains(parentPom.toPath(), grandParentPom.toPath()));
+    }
+
+    @Test
+    void testImportedBoms() {
+        final MavenProject parent = new MavenProject(new Model());
+        parent.setOriginalModel(createModelWithManagedDependencies(createManagedDependency("parent-bom", "import"),
+                createManagedDependency("managed-lib", "compile")));
+        final ProjectSnapshot snapshot = createSnapshot(pomFile -> {
+            final MavenProject project = new MavenProject(new Model());
+            project.setOriginalModel(
+                    createModelWithManagedDependencies(createManagedDependency("project-bom", "import")));
+            project.setParent(parent);
+            return project;
+        });
+        assertThat(snapshot.getImportedBoms(),
+                contains("com.example:project-bom:${bom.version}", "com.example:parent-bom:${bom.version}"));
+    }
+
+    private static Model createModelWithManagedDependencies(final Dependency... dependencies) {
+        final var dependencyManagement = new DependencyManagement();
+        dependencyManagement.setDependencies(List.of(dependencies));
+        final var model = new Model();
+        model.setDependencyManagement(dependencyManagement);
+        return model;
+    }
+
+    private static Dependency createManagedDependency(final String artifactId, final String scope) {
+        final var dependency = new Dependency();
+        dependency.setGroupId("com.example");
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion("${bom.version}");
+        dependency.setScope(scope);
+        return dependency;
+    }
+
+    private ProjectSnapshot createSnapshot(final MavenProjectFromFileReader reader) {
+        final File pomFile = this.tempDir.resolve("pom.xml").toFile();
+        return new ProjectSnapshot(this.tempDir, pomFile, reader, new GitRepository(this.tempDir));
+    }
+}
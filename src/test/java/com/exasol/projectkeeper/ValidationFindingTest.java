@@ -3,13 +3,16 @@ package com.exasol.projectkeeper;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 class ValidationFindingTest {
 
     @Test
     void testWithFix() {
-        final ValidationFinding finding = ValidationFinding.withMessage("").andFix((log) -> {
+        final ValidationFinding finding = ValidationFinding.withMessage("").andFix((log, transaction) -> {
         }).build();
         assertThat(finding.hasFix(), equalTo(true));
     }
@@ -19,4 +22,24 @@ class ValidationFindingTest {
         final ValidationFinding finding = ValidationFinding.withMessage("").build();
         assertThat(finding.hasFix(), equalTo(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testWithoutFile() {
+        final ValidationFinding finding = ValidationFinding.withMessage("").build();
+        assertThat(finding.getFile(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testWithDefaultFile() {
+        final ValidationFinding finding = ValidationFinding.withMessage("").build()
+                .withDefaultFile(Path.of("README.md"));
+        assertThat(finding.getFile(), equalTo(Optional.of(Path.of("README.md"))));
+    }
+
+    @Test
+    void testWithDefaultFileKeepsFile() {
+        final ValidationFinding finding = ValidationFinding.withMessage("").file(Path.of("pom.xml")).build()
+                .withDefaultFile(Path.of("README.md"));
+        assertThat(finding.getFile(), equalTo(Optional.of(Path.of("pom.xml"))));
+    }
+}
@@ -0,0 +1,177 @@
+package com.exasol.projectkeeper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidationRunnerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 8 })
+    void testFindingsAreInOrderOfValidators(final int parallelism) {
+        final List<Validator> validators = List.of(slowValidator("first", 100), slowValidator("second", 0),
+                slowValidator("third", 50));
+        final List<String> messages = new ValidationRunner(parallelism).run(validators).stream()
+                .map(ValidationFinding::getMessage).collect(Collectors.toList());
+        assertThat(messages, contains("first", "second", "third"));
+    }
+
+    @Test
+    void testValidatorsRunConcurrently() {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final Validator waitingValidator = findingConsumer -> {
+            bothStarted.countDown();
+            awaitLatch(bothStarted);
+            findingConsumer.accept(ValidationFinding.withMessage("done").build());
+        };
+        final List<ValidationFinding> findings = new ValidationRunner(2).run(List.of(waitingValidator, waitingValidator));
+        assertThat(findings.size(), equalTo(2));
+    }
+
+    @Test
+    void testExceptionIsPropagated() {
+        final Validator failingValidator = findingConsumer -> {
+            throw new IllegalStateException("E-PK-TEST: failed");
+        };
+        final ValidationRunner runner = new ValidationRunner(2);
+        final List<Validator> validators = List.of(slowValidator("other", 0), failingValidator);
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> runner.run(validators));
+        assertThat(exception.getMessage(), startsWith("E-PK-TEST"));
+    }
+
+    @Test
+    void testFindingsStreamToSinkWhileValidatorRuns() throws InterruptedException {
+        final CountDownLatch firstFindingReceived = new CountDownLatch(1);
+        final Validator streamingValidator = findingConsumer -> {
+            findingConsumer.accept(ValidationFinding.withMessage("early").build());
+            awaitLatch(firstFindingReceived);
+            findingConsumer.accept(ValidationFinding.withMessage("late").build());
+        };
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        new ValidationRunner(2).run(List.of(streamingValidator, slowValidator("next", 0)), (validator, finding) -> {
+            messages.add(finding.getMessage());
+            firstFindingReceived.countDown();
+        });
+        assertThat(messages, contains("early", "late", "next"));
+    }
+
+    @Test
+    void testSinkReceivesReportingValidator() {
+        final Validator first = slowValidator("first", 50);
+        final Validator second = slowValidator("second", 0);
+        final List<Validator> reportingValidators = new CopyOnWriteArrayList<>();
+        new ValidationRunner(2).run(List.of(first, second),
+                (validator, finding) -> reportingValidators.add(validator));
+        assertThat(reportingValidators, contains(first, second));
+    }
+
+    @Test
+    void testFailFastRunsCheapValidatorsFirst() {
+        final List<String> executionOrder = new CopyOnWriteArrayList<>();
+        final List<Validator> validators = List.of(recordingValidator("expensive", Validator.Cost.HIGH, executionOrder),
+                recordingValidator("cheap", Validator.Cost.LOW, executionOrder),
+                recordingValidator("medium", Validator.Cost.MEDIUM, executionOrder));
+        final List<ValidationFinding> findings = new ValidationRunner(1).runFailFast(validators);
+        assertThat(executionOrder, contains("cheap", "medium", "expensive"));
+        assertThat(findings, empty());
+    }
+
+    @Test
+    void testFailFastStopsAtFirstFinding() {
+        final List<String> executionOrder = new CopyOnWriteArrayList<>();
+        final List<Validator> validators = List.of(slowValidator("finding", 0),
+                recordingValidator("other", Validator.Cost.HIGH, executionOrder));
+        final List<String> messages = new ValidationRunner(1).runFailFast(validators).stream()
+                .map(ValidationFinding::getMessage).collect(Collectors.toList());
+        assertThat(messages, contains("finding"));
+        assertThat(executionOrder, empty());
+    }
+
+    @Test
+    void testFailFastCancelsRunningValidators() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Validator blockingValidator = findingConsumer -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (final InterruptedException exception) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+        };
+        final List<ValidationFinding> findings = new ValidationRunner(2)
+                .runFailFast(List.of(blockingValidator, slowValidator("finding", 50)));
+        assertThat(findings.size(), equalTo(1));
+        assertThat(interrupted.await(10, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @Test
+    void testFailFastWithoutFindings() {
+        final Validator cleanValidator = findingConsumer -> {
+        };
+        assertThat(new ValidationRunner(4).runFailFast(List.of(cleanValidator, cleanValidator)), empty());
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ValidationRunner(0));
+        assertThat(exception.getMessage(), startsWith("E-PK-69"));
+    }
+
+    private static Validator slowValidator(final String message, final long delayInMillis) {
+        return findingConsumer -> {
+            sleep(delayInMillis);
+            findingConsumer.accept(ValidationFinding.withMessage(message).build());
+        };
+    }
+
+    private static Validator recordingValidator(final String name, final Validator.Cost cost,
+            final List<String> executionOrder) {
+        return new Validator() {
+            @Override
+            public void validate(final Consumer<ValidationFinding> findingConsumer) {
+                executionOrder.add(name);
+            }
+
+            @Override
+            public Cost getCost() {
+                return cost;
+            }
+        };
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Validators did not run concurrently.");
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void sleep(final long delayInMillis) {
+        try {
+            Thread.sleep(delayInMillis);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
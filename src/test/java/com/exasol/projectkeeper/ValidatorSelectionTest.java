@@ -0,0 +1,57 @@
+package com.exasol.projectkeeper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class ValidatorSelectionTest {
+    private static final List<String> ALL = List.of("files", "readme", "license", "pom", "changes", "dependencies",
+            "deleted-files");
+
+    @Test
+    void testAllValidatorsAreSelectedByDefault() {
+        assertThat(selected(new ValidatorSelection(null, null)), contains(ALL.toArray()));
+    }
+
+    @Test
+    void testEmptyListSelectsAllValidators() {
+        assertThat(selected(new ValidatorSelection(Collections.emptyList(), Collections.emptyList())),
+                contains(ALL.toArray()));
+    }
+
+    @Test
+    void testSelectValidators() {
+        assertThat(selected(new ValidatorSelection(List.of("pom", " README "), null)), contains("readme", "pom"));
+    }
+
+    @Test
+    void testSkipValidators() {
+        assertThat(selected(new ValidatorSelection(null, List.of("dependencies", "files"))),
+                contains("readme", "license", "pom", "changes", "deleted-files"));
+    }
+
+    @Test
+    void testQuickSkipsExpensiveValidators() {
+        assertThat(selected(new ValidatorSelection(List.of("quick"), null)),
+                contains("files", "readme", "license", "pom", "deleted-files"));
+    }
+
+    @Test
+    void testUnknownValidator() {
+        final List<String> validators = List.of("unknown");
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new ValidatorSelection(validators, null));
+        assertThat(exception.getMessage(), startsWith("E-PK-81: Unknown validator: 'unknown'."));
+    }
+
+    private static List<String> selected(final ValidatorSelection selection) {
+        return ALL.stream().filter(selection::isSelected).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.exasol.projectkeeper.incremental;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.projectkeeper.ValidationFinding;
+import com.exasol.projectkeeper.Validator;
+
+class IncrementalValidationCacheTest {
+    private static final String PLUGIN_IDENTITY = "1.0.0";
+    @TempDir
+    Path tempDir;
+    private Path cacheFile;
+    private Path inputFile;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        this.cacheFile = this.tempDir.resolve("cache/fingerprints.properties");
+        this.inputFile = Files.writeString(this.tempDir.resolve("input.txt"), "content");
+    }
+
+    @Test
+    void testValidatorIsSkippedIfInputsDidNotChange() {
+        final CountingValidator validator = new CountingValidator(this.inputFile);
+        runWithNewCache(validator, PLUGIN_IDENTITY);
+        runWithNewCache(validator, PLUGIN_IDENTITY);
+        assertThat(validator.getNumberOfRuns(), equalTo(1));
+    }
+
+    @Test
+    void testValidatorRunsAgainIfInputChanged() throws IOException {
+        final CountingValidator validator = new CountingValidator(this.inputFile);
+        runWithNewCache(validator, PLUGIN_IDENTITY);
+        Files.writeString(this.inputFile, "changed");
+        runWithNewCache(validator, PLUGIN_IDENTITY);
+        assertThat(validator.getNumberOfRuns(), equalTo(2));
+    }
+
+    @Test
+    void testValidatorWithFindingsRunsAgain() {
+        final CountingValidator validator = new CountingValidator(this.inputFile);
+        validator.reportFinding = true;
+        final List<ValidationFinding> firstFindings = runWithNewCache(validator, PLUGIN_IDENTITY);
+        final List<ValidationFinding> secondFindings = runWithNewCache(validator, PLUGIN_IDENTITY);
+        assertThat(validator.getNumberOfRuns(), equalTo(2));
+        assertThat(firstFindings, hasSize(1));
+        assertThat(secondFindings, hasSize(1));
+    }
+
+    @Test
+    void testCacheIsResetIfPluginChanged() {
+        final CountingValidator validator = new CountingValidator(this.inputFile);
+        runWithNewCache(validator, PLUGIN_IDENTITY);
+        runWithNewCache(validator, "2.0.0");
+        assertThat(validator.getNumberOfRuns(), equalTo(2));
+    }
+
+    @Test
+    void testValidatorWithoutInputsIsNotWrapped() {
+        final Validator validator = findingConsumer -> {
+        };
+        final List<Validator> wrapped = IncrementalValidationCache.load(this.cacheFile, PLUGIN_IDENTITY)
+                .wrap(List.of(validator));
+        assertThat(wrapped.get(0), equalTo(validator));
+    }
+
+    @Test
+    void testBrokenCacheFileIsIgnored() throws IOException {
+        Files.createDirectories(this.cacheFile.getParent());
+        Files.writeString(this.cacheFile, "\\u00");
+        final CountingValidator validator = new CountingValidator(this.inputFile);
+        assertThat(runWithNewCache(validator, PLUGIN_IDENTITY), empty());
+        assertThat(validator.getNumberOfRuns(), equalTo(1));
+    }
+
+    private List<ValidationFinding> runWithNewCache(final Validator validator, final String pluginIdentity) {
+        final IncrementalValidationCache cache = IncrementalValidationCache.load(this.cacheFile, pluginIdentity);
+        final List<ValidationFinding> findings = new ArrayList<>();
+        for (final Validator wrapped : cache.wrap(List.of(validator))) {
+            findings.addAll(wrapped.validate());
+        }
+        cache.save();
+        return findings;
+    }
+
+    private static class CountingValidator implements Validator {
+        private final Path inputFile;
+        private final AtomicInteger numberOfRuns = new AtomicInteger();
+        private boolean reportFinding = false;
+
+        private CountingValidator(final Path inputFile) {
+            this.inputFile = inputFile;
+        }
+
+        @Override
+        public void validate(final Consumer<ValidationFinding> findingConsumer) {
+            this.numberOfRuns.incrementAndGet();
+            if (this.reportFinding) {
+                findingConsumer.accept(ValidationFinding.withMessage("finding").build());
+            }
+        }
+
+        @Override
+        public Optional<ValidatorInputs> getInputs() {
+            return Optional.of(ValidatorInputs.builder().file(this.inputFile).build());
+        }
+
+        private int getNumberOfRuns() {
+            return this.numberOfRuns.get();
+        }
+    }
+}
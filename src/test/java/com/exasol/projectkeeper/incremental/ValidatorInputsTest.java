@@ -0,0 +1,49 @@
+package com.exasol.projectkeeper.incremental;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidatorInputsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFingerprintIsStable() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final ValidatorInputs inputs = ValidatorInputs.builder().file(file).value("name", "value").build();
+        assertThat(inputs.fingerprint(), equalTo(inputs.fingerprint()));
+    }
+
+    @Test
+    void testFingerprintChangesWithFileContent() throws IOException {
+        final Path file = Files.writeString(this.tempDir.resolve("file.txt"), "content");
+        final ValidatorInputs inputs = ValidatorInputs.builder().file(file).build();
+        final String before = inputs.fingerprint();
+        Files.writeString(file, "other content");
+        assertThat(inputs.fingerprint(), not(equalTo(before)));
+    }
+
+    @Test
+    void testFingerprintChangesWhenFileIsCreated() throws IOException {
+        final Path file = this.tempDir.resolve("file.txt");
+        final ValidatorInputs inputs = ValidatorInputs.builder().file(file).build();
+        final String before = inputs.fingerprint();
+        Files.writeString(file, "");
+        assertThat(inputs.fingerprint(), not(equalTo(before)));
+    }
+
+    @Test
+    void testFingerprintDependsOnValues() {
+        final String fingerprint1 = ValidatorInputs.builder().value("name", "a").build().fingerprint();
+        final String fingerprint2 = ValidatorInputs.builder().value("name", "b").build().fingerprint();
+        assertThat(fingerprint1, not(equalTo(fingerprint2)));
+    }
+}
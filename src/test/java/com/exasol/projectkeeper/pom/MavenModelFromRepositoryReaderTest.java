@@ -0,0 +1,120 @@
+package com.exasol.projectkeeper.pom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.project.*;
+import org.apache.maven.repository.RepositorySystem;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MavenModelFromRepositoryReaderTest {
+    private final List<ProjectBuildingRequest> usedRequests = new CopyOnWriteArrayList<>();
+    private final ProjectBuildingRequest sessionRequest = new DefaultProjectBuildingRequest();
+    private MavenModelFromRepositoryReader reader;
+
+    @BeforeEach
+    void beforeEach() throws ProjectBuildingException {
+        final ProjectBuilder projectBuilder = mock(ProjectBuilder.class);
+        when(projectBuilder.build(any(Artifact.class), anyBoolean(), any()))
+                .thenAnswer(invocation -> {
+                    final ProjectBuildingRequest request = invocation.getArgument(2);
+                    final String expectedRepository = getFirstRepositoryId(request);
+                    // give concurrent calls the chance to change a shared request
+                    Thread.sleep(10);
+                    final var model = new Model();
+                    model.setName(Objects.equals(getFirstRepositoryId(request), expectedRepository)
+                            ? expectedRepository
+                            : "changed while building");
+                    this.usedRequests.add(request);
+                    final ProjectBuildingResult result = mock(ProjectBuildingResult.class);
+                    when(result.getProject()).thenReturn(new MavenProject(model));
+                    return result;
+                });
+        this.sessionRequest.setRepositorySession(new DefaultRepositorySystemSession());
+        final MavenSession session = mock(MavenSession.class);
+        when(session.getProjectBuildingRequest()).thenReturn(this.sessionRequest);
+        final RepositorySystem repositorySystem = mock(RepositorySystem.class);
+        when(repositorySystem.createProjectArtifact(anyString(), anyString(), anyString()))
+                .thenReturn(mock(Artifact.class));
+        this.reader = new MavenModelFromRepositoryReader(projectBuilder, session, repositorySystem);
+    }
+
+    @Test
+    void testRequestIsConfiguredForModelReading() throws ProjectBuildingException {
+        this.reader.readModel("artifact", "com.example", "1.0.0", repositories("central"));
+        final ProjectBuildingRequest request = this.usedRequests.get(0);
+        assertThat(request.getValidationLevel(), equalTo(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL));
+        assertThat(request.isResolveDependencies(), equalTo(false));
+        assertThat(request.isProcessPlugins(), equalTo(false));
+    }
+
+    @Test
+    void testSessionRequestIsNotChanged() throws ProjectBuildingException {
+        this.reader.readModel("artifact", "com.example", "1.0.0", repositories("central"));
+        assertThat(this.sessionRequest.getRemoteRepositories(), empty());
+        assertThat(this.usedRequests.get(0), not(sameInstance(this.sessionRequest)));
+    }
+
+    @Test
+    void testEachCallUsesOwnRequest() throws ProjectBuildingException {
+        this.reader.readModel("artifact", "com.example", "1.0.0", repositories("first"));
+        this.reader.readModel("artifact", "com.example", "1.0.0", repositories("second"));
+        assertThat(this.usedRequests.get(0), not(sameInstance(this.usedRequests.get(1))));
+    }
+
+    @Test
+    void testConcurrentCallsKeepTheirRepositories() throws InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Model>> models = new ArrayList<>();
+            for (int index = 0; index < 32; index++) {
+                final String repository = "repository-" + index;
+                models.add(executor.submit(
+                        () -> this.reader.readModel("artifact", "com.example", "1.0.0", repositories(repository))));
+            }
+            for (int index = 0; index < models.size(); index++) {
+                assertThat(models.get(index).get().getName(), equalTo("repository-" + index));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testOfflineReadUsesOnlyLocalRepository() throws ProjectBuildingException {
+        this.reader.readModelOffline("artifact", "com.example", "1.0.0");
+        final ProjectBuildingRequest request = this.usedRequests.get(0);
+        assertThat(request.getRemoteRepositories(), empty());
+        assertThat(request.getRepositorySession().isOffline(), equalTo(true));
+        assertThat(this.sessionRequest.getRepositorySession().isOffline(), equalTo(false));
+    }
+
+    private static String getFirstRepositoryId(final ProjectBuildingRequest request) {
+        final List<ArtifactRepository> repositories = request.getRemoteRepositories();
+        return repositories.isEmpty() ? null : repositories.get(0).getId();
+    }
+
+    private static List<ArtifactRepository> repositories(final String id) {
+        final ArtifactRepository repository = mock(ArtifactRepository.class);
+        when(repository.getId()).thenReturn(id);
+        return List.of(repository);
+    }
+}
@@ -1,4 +1,4 @@
-package com.exasol.projectkeeper.validators.changesfile;
+package com.exasol.projectkeeper.pom;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
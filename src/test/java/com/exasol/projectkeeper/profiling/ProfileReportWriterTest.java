@@ -0,0 +1,45 @@
+package com.exasol.projectkeeper.profiling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProfileReportWriterTest {
+    @AfterEach
+    void afterEach() {
+        Profiler.stop();
+    }
+
+    @Test
+    void testWriteJson(@TempDir final Path tempDir) throws IOException {
+        final ProfileRecorder recorder = Profiler.start();
+        Profiler.measure("validate \"quoted\"", () -> null);
+        final Path reportFile = tempDir.resolve("project-keeper/profile.json");
+        new ProfileReportWriter().writeJson(reportFile, "verify", recorder);
+        final String report = Files.readString(reportFile);
+        assertThat(report, allOf(containsString("\"goal\": \"verify\""),
+                containsString("{\"name\": \"validate \\\"quoted\\\"\", \"calls\": 1, \"wallTimeNanos\": ")));
+    }
+
+    @Test
+    void testJsonWithoutOperations() {
+        final ProfileRecorder recorder = new ProfileRecorder();
+        assertThat(new ProfileReportWriter().toJson("fix", recorder), containsString("\"operations\": []"));
+    }
+
+    @Test
+    void testFormatTable() {
+        final ProfileRecorder recorder = Profiler.start();
+        Profiler.measure("scan templates", () -> null);
+        final List<String> table = new ProfileReportWriter().formatTable(recorder);
+        assertThat(table, contains(startsWith("Operation"), startsWith("scan templates"), startsWith("Total")));
+    }
+}
@@ -0,0 +1,92 @@
+package com.exasol.projectkeeper.profiling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ProfilerTest {
+    @AfterEach
+    void afterEach() {
+        Profiler.stop();
+    }
+
+    @Test
+    void testMeasureWithoutActiveProfilingRunsOperation() {
+        assertThat(Profiler.measure("operation", () -> "result"), equalTo("result"));
+    }
+
+    @Test
+    void testCountsCalls() {
+        final ProfileRecorder recorder = Profiler.start();
+        Profiler.measure("operation", () -> 1);
+        Profiler.measure("operation", () -> 2);
+        final List<OperationProfile> operations = recorder.getOperations();
+        assertThat(operations, hasSize(1));
+        assertThat(operations.get(0).getName(), equalTo("operation"));
+        assertThat(operations.get(0).getCalls(), equalTo(2L));
+    }
+
+    @Test
+    void testMeasuresWallTime() throws InterruptedException {
+        final ProfileRecorder recorder = Profiler.start();
+        Profiler.measure("sleep", () -> {
+            Thread.sleep(20);
+            return null;
+        });
+        assertThat(recorder.getOperations().get(0).getWallTimeNanos(), greaterThanOrEqualTo(20_000_000L));
+    }
+
+    @Test
+    void testRecordsFailedOperation() {
+        final ProfileRecorder recorder = Profiler.start();
+        assertThrows(IOException.class, () -> Profiler.measure("failing", () -> {
+            throw new IOException("failed");
+        }));
+        assertThat(recorder.getOperations().get(0).getCalls(), equalTo(1L));
+    }
+
+    @Test
+    void testPropagatedTaskRecordsToSameProfile() throws Exception {
+        final ProfileRecorder recorder = Profiler.start();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(Profiler.propagate(() -> Profiler.measure("in other thread", () -> null))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(recorder.getOperations().get(0).getName(), equalTo("in other thread"));
+    }
+
+    @Test
+    void testPoolThreadDoesNotKeepRecorder() throws Exception {
+        final ProfileRecorder recorder = Profiler.start();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(Profiler.propagate(() -> Profiler.measure("propagated", () -> null))).get();
+            executor.submit(() -> Profiler.measure("not propagated", () -> null)).get();
+            Profiler.stop();
+            executor.submit(() -> Profiler.measure("after stop", () -> null)).get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(recorder.getOperations().stream().map(OperationProfile::getName).collect(Collectors.toList()),
+                contains("propagated"));
+    }
+
+    @Test
+    void testNothingIsRecordedAfterStop() {
+        final ProfileRecorder recorder = Profiler.start();
+        Profiler.stop();
+        Profiler.measure("operation", () -> null);
+        assertThat(recorder.getOperations(), empty());
+    }
+}
@@ -0,0 +1,67 @@
+package com.exasol.projectkeeper.report;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.projectkeeper.ValidationFinding;
+import com.exasol.projectkeeper.Validator;
+
+class FindingsReportWriterTest {
+    private static final Validator VALIDATOR = findingConsumer -> {
+    };
+
+    @Test
+    void testFindingsAreWrittenBeforeClose(@TempDir final Path tempDir) throws IOException {
+        final Path reportFile = tempDir.resolve("project-keeper").resolve("findings.jsonl");
+        try (final FindingsReportWriter writer = FindingsReportWriter.open(reportFile, "verify")) {
+            writer.accept(VALIDATOR, ValidationFinding.withMessage("E-PK-1: first").build());
+            assertThat(Files.readAllLines(reportFile), hasSize(1));
+            writer.accept(VALIDATOR, ValidationFinding.withMessage("E-PK-2: second").build());
+            assertThat(Files.readAllLines(reportFile), hasSize(2));
+        }
+    }
+
+    @Test
+    void testExistingReportIsReplaced(@TempDir final Path tempDir) throws IOException {
+        final Path reportFile = tempDir.resolve("findings.jsonl");
+        Files.writeString(reportFile, "old\n");
+        FindingsReportWriter.open(reportFile, "verify").close();
+        assertThat(Files.readAllLines(reportFile), empty());
+    }
+
+    @Test
+    void testToJson() {
+        final ValidationFinding finding = ValidationFinding.withMessage("E-PK-53: Outdated \"content\"\nnext line")
+                .file(Path.of("doc", "changes", "changelog.md")).andFix((log, transaction) -> {
+                }).build();
+        assertThat(FindingsReportWriter.toJson("fix", "DependenciesValidator", finding, 42),
+                equalTo("{\"goal\": \"fix\", \"validator\": \"DependenciesValidator\", \"code\": \"E-PK-53\", "
+                        + "\"file\": \"doc/changes/changelog.md\", \"fixable\": true, \"elapsedMillis\": 42, "
+                        + "\"message\": \"E-PK-53: Outdated \\\"content\\\"\\nnext line\"}"));
+    }
+
+    @Test
+    void testToJsonWithoutCodeAndFile() {
+        final ValidationFinding finding = ValidationFinding.withMessage("plain message").build();
+        assertThat(FindingsReportWriter.toJson("verify", "Test", finding, 0),
+                equalTo("{\"goal\": \"verify\", \"validator\": \"Test\", \"code\": null, \"file\": null, "
+                        + "\"fixable\": false, \"elapsedMillis\": 0, \"message\": \"plain message\"}"));
+    }
+
+    @Test
+    void testGetErrorCode() {
+        final List<Optional<String>> codes = List.of(FindingsReportWriter.getErrorCode("E-PK-45: Pom file is invalid"),
+                FindingsReportWriter.getErrorCode("W-PK-67: warning"),
+                FindingsReportWriter.getErrorCode("message with E-PK-1: inside"));
+        assertThat(codes, contains(Optional.of("E-PK-45"), Optional.of("W-PK-67"), Optional.empty()));
+    }
+}
@@ -9,11 +9,15 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevObject;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.URIish;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -39,6 +43,39 @@ class GitRepositoryTest {
         }
     }
 
+    @Test
+    void testFindLatestTag() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            makeCommitAndTag(git, 2, true);
+            git.branchCreate().setName("other").call();
+            makeCommitAndTag(git, 3, false);
+            git.checkout().setName("other").call();
+            makeCommitAndTag(git, 4, false);
+            final Optional<TaggedCommit> result = repository
+                    .findLatestTagInCurrentBranch(tag -> !tag.equals("tag4") && !tag.equals("tag2"));
+            assertThat(result.orElseThrow().getTag(), equalTo("tag1"));
+        }
+    }
+
+    @Test
+    void testFindLatestTagWithoutMatch() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            assertThat(repository.findLatestTagInCurrentBranch(tag -> false).isEmpty(), equalTo(true));
+        }
+    }
+
+    @Test
+    void testFindLatestTagWithoutCommits() throws GitAPIException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            assertThat(repository.findLatestTagInCurrentBranch(tag -> true).isEmpty(), equalTo(true));
+        }
+    }
+
     /**
      * Test get a lightweight git tag. Lightweight tags are among others created by github releases. For details see
      * https://git-scm.com/book/en/v2/Git-Internals-Git-References.
@@ -54,6 +91,61 @@ class GitRepositoryTest {
         }
     }
 
+    @Test
+    void testGetTagsFromPackedRefs() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            makeCommitAndTag(git, 2, true);
+            git.gc().call();
+            final List<String> tagNames = repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                    .collect(Collectors.toList());
+            assertThat(tagNames, contains("tag2", "tag1"));
+        }
+    }
+
+    @Test
+    void testGetTagOfTag() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            try (final RevWalk revWalk = new RevWalk(git.getRepository())) {
+                final RevObject tag = revWalk.parseAny(git.getRepository().resolve("refs/tags/tag1"));
+                git.tag().setName("tagOfTag").setObjectId(tag).call();
+            }
+            final List<String> tagNames = repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                    .collect(Collectors.toList());
+            assertThat(tagNames, containsInAnyOrder("tag1", "tagOfTag"));
+        }
+    }
+
+    @Test
+    void testTagOfTreeFails() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            tagTree(git, makeCommitAndTag(git, 1, true));
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    repository::getTagsInCurrentBranch);
+            assertThat(exception.getMessage(), startsWith("F-PK-44"));
+        }
+    }
+
+    @Test
+    void testTagOfTreeFromPackedRefsFails() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            tagTree(git, makeCommitAndTag(git, 1, true));
+            git.gc().call();
+            final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    repository::getTagsInCurrentBranch);
+            assertThat(exception.getMessage(), startsWith("F-PK-44"));
+        }
+    }
+
+    private static void tagTree(final Git git, final RevCommit commit) throws GitAPIException {
+        git.tag().setName("treeTag").setAnnotated(false).setObjectId(commit.getTree()).call();
+    }
+
     @Test
     void testGetTagsFromDetachedHead() throws GitAPIException, IOException {
         try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();) {
@@ -132,4 +224,228 @@ class GitRepositoryTest {
             assertThat(repository.getRepoNameFromRemote().orElseThrow(), equalTo("project-keeper-maven-plugin"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRepoNameIsMemoized() throws GitAPIException, IOException, URISyntaxException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            assertThat(repository.getRepoNameFromRemote().isEmpty(), equalTo(true));
+            git.remoteAdd().setName("origin")
+                    .setUri(new URIish("git@github.com:exasol/project-keeper-maven-plugin.git")).call();
+            assertThat(repository.getRepoNameFromRemote().isEmpty(), equalTo(true));
+        }
+    }
+
+    @Test
+    void testRefsAreReadOncePerSession() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            final String fingerprint = repository.getRefsFingerprint();
+            makeCommitAndTag(git, 2, false);
+            assertThat(repository.getRefsFingerprint(), equalTo(fingerprint));
+            assertThat(repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                    .collect(Collectors.toList()), contains("tag1"));
+        }
+    }
+
+    @Test
+    void testRepositoryIsOpenedAgainAfterClose() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeCommitAndTag(git, 1, false);
+            final String fingerprint = repository.getRefsFingerprint();
+            makeCommitAndTag(git, 2, false);
+            repository.close();
+            assertThat(repository.getRefsFingerprint(), not(equalTo(fingerprint)));
+            assertThat(repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                    .collect(Collectors.toList()), contains("tag2", "tag1"));
+        }
+    }
+
+    @Test
+    void testTagsAreReadFromTagIndex() throws GitAPIException, IOException {
+        final Path tagIndexFile = this.tempDir.resolve("target").resolve("tag-index.properties");
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            final RevCommit commit = makeCommitAndTag(git, 1, false);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                assertThat(repository.getTagsInCurrentBranch().get(0).getTag(), equalTo("tag1"));
+                new TagIndexCache(tagIndexFile).store(repository.getRefsFingerprint(),
+                        List.of(new TaggedCommit(commit, "fromIndex")), true);
+            }
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                assertThat(repository.findLatestTagInCurrentBranch(tag -> true).orElseThrow().getTag(),
+                        equalTo("fromIndex"));
+            }
+        }
+    }
+
+    @Test
+    void testFindLatestTagWithoutTagIndexStopsAtFirstMatch() throws GitAPIException, IOException {
+        final Path tagIndexFile = this.tempDir.resolve("target").resolve("tag-index.properties");
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            makeCommitAndTag(git, 1, false);
+            makeCommitAndTag(git, 2, false);
+            makeCommitAndTag(git, 3, true);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                assertThat(repository.findLatestTagInCurrentBranch(tag -> tag.equals("tag2")).orElseThrow().getTag(),
+                        equalTo("tag2"));
+                final TagIndexCache.TagIndex index = new TagIndexCache(tagIndexFile)
+                        .load(repository.getRefsFingerprint()).orElseThrow();
+                assertThat(index.getTags().stream().map(TaggedCommit::getTag).collect(Collectors.toList()),
+                        contains("tag3", "tag2"));
+                assertThat(index.isComplete(), equalTo(false));
+            }
+        }
+    }
+
+    @Test
+    void testPartialTagIndexIsExtended() throws GitAPIException, IOException {
+        final Path tagIndexFile = this.tempDir.resolve("target").resolve("tag-index.properties");
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            makeCommitAndTag(git, 1, false);
+            makeCommitAndTag(git, 2, false);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                repository.findLatestTagInCurrentBranch(tag -> true);
+            }
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                assertThat(repository.findLatestTagInCurrentBranch(tag -> tag.equals("tag1")).orElseThrow().getTag(),
+                        equalTo("tag1"));
+                assertThat(repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                        .collect(Collectors.toList()), contains("tag2", "tag1"));
+            }
+        }
+    }
+
+    @Test
+    void testTagIndexIsUpdatedWhenRefsChange() throws GitAPIException, IOException {
+        final Path tagIndexFile = this.tempDir.resolve("target").resolve("tag-index.properties");
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            makeCommitAndTag(git, 1, false);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                repository.getTagsInCurrentBranch();
+            }
+            makeCommitAndTag(git, 2, false);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                final List<String> tagNames = repository.getTagsInCurrentBranch().stream().map(TaggedCommit::getTag)
+                        .collect(Collectors.toList());
+                assertThat(tagNames, contains("tag2", "tag1"));
+            }
+        }
+    }
+
+    @Test
+    void testReadFileAtCommitFromTagIndex() throws GitAPIException, IOException {
+        final Path tagIndexFile = this.tempDir.resolve("target").resolve("tag-index.properties");
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call()) {
+            makeCommitAndTag(git, 1, false);
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                repository.getTagsInCurrentBranch();
+            }
+            try (final GitRepository repository = new GitRepository(this.tempDir, tagIndexFile)) {
+                final GitCommit commit = repository.getTagsInCurrentBranch().get(0).getCommit();
+                assertThat(repository.readFileAtCommit(Path.of("myFile.txt"), commit), equalTo("1"));
+            }
+        }
+    }
+
+    @Test
+    void testReadNestedFileAtCommit() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("module/pom.xml", "module pom")));
+            assertThat(repository.readFileAtCommit(Path.of("module", "pom.xml"), commit), equalTo("module pom"));
+        }
+    }
+
+    @Test
+    void testReadDirectoryAtCommitFails() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("module/pom.xml", "module pom")));
+            final Path directory = Path.of("module");
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> repository.readFileAtCommit(directory, commit));
+            assertThat(exception.getMessage(), startsWith("E-PK-35"));
+        }
+    }
+
+    @Test
+    void testReadFileWithEmptyPathFails() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("pom.xml", "root pom")));
+            final Path emptyPath = Path.of("");
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> repository.readFileAtCommit(emptyPath, commit));
+            assertThat(exception.getMessage(), startsWith("E-PK-91"));
+        }
+    }
+
+    @Test
+    void testReadFileAtCommitAsStream() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("doc/changes/changes_1.0.0.md", "abc")));
+            final int length = repository.readFileAtCommit(Path.of("doc/changes/changes_1.0.0.md"), commit,
+                    content -> content.readAllBytes().length);
+            assertThat(length, equalTo(3));
+        }
+    }
+
+    @Test
+    void testReadFilesAtCommit() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("pom.xml", "root pom",
+                    "doc/changes/changes_1.0.0.md", "changes", "doc/changes/changelog.md", "changelog")));
+            final Map<Path, String> result = repository.readFilesAtCommit(List.of(Path.of("pom.xml"),
+                    Path.of("doc/changes/changes_1.0.0.md"), Path.of("doc/changes"), Path.of("missing.md")), commit);
+            assertThat(result, equalTo(
+                    Map.of(Path.of("pom.xml"), "root pom", Path.of("doc/changes/changes_1.0.0.md"), "changes")));
+        }
+    }
+
+    @Test
+    void testReadFilesAtCommitAsStreams() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("pom.xml", "root pom")));
+            final Map<Path, Integer> result = repository.readFilesAtCommit(List.of(Path.of("pom.xml")), commit,
+                    content -> content.readAllBytes().length);
+            assertThat(result, equalTo(Map.of(Path.of("pom.xml"), 8)));
+        }
+    }
+
+    @Test
+    void testReadNoFilesAtCommit() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("pom.xml", "root pom")));
+            assertThat(repository.readFilesAtCommit(List.of(), commit), anEmptyMap());
+        }
+    }
+
+    @Test
+    void testReadFilesWithEmptyPathFails() throws GitAPIException, IOException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            final GitCommit commit = new GitCommit(commitFiles(git, Map.of("pom.xml", "root pom")));
+            final List<Path> paths = List.of(Path.of("pom.xml"), Path.of(""));
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> repository.readFilesAtCommit(paths, commit));
+            assertThat(exception.getMessage(), startsWith("E-PK-91"));
+        }
+    }
+
+    private RevCommit commitFiles(final Git git, final Map<String, String> files)
+            throws IOException, GitAPIException {
+        for (final Map.Entry<String, String> file : files.entrySet()) {
+            final Path path = this.tempDir.resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file.getValue());
+            git.add().addFilepattern(file.getKey()).call();
+        }
+        return git.commit().setMessage("commit files").call();
+    }
+}
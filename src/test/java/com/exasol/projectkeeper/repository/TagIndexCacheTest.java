@@ -0,0 +1,80 @@
+package com.exasol.projectkeeper.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TagIndexCacheTest {
+    private static final String FINGERPRINT = "HEAD=abc\nrefs/tags/1.0.0=def\n";
+    private static final ObjectId COMMIT_1 = ObjectId.fromString("0123456789012345678901234567890123456789");
+    private static final ObjectId COMMIT_2 = ObjectId.fromString("9876543210987654321098765432109876543210");
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStoreAndLoad() {
+        final var cache = new TagIndexCache(this.tempDir.resolve("cache").resolve("tags.properties"));
+        cache.store(FINGERPRINT, List.of(new TaggedCommit(COMMIT_2, "1.1.0"), new TaggedCommit(COMMIT_1, "1.0.0"),
+                new TaggedCommit(COMMIT_1, "other")), true);
+        final TagIndexCache.TagIndex index = cache.load(FINGERPRINT).orElseThrow();
+        final List<TaggedCommit> tags = index.getTags();
+        assertThat(tags.stream().map(TaggedCommit::getTag).collect(Collectors.toList()),
+                contains("1.1.0", "1.0.0", "other"));
+        assertThat(tags.get(0).getCommit().getCommitId(), equalTo(COMMIT_2));
+        assertThat(index.isComplete(), equalTo(true));
+    }
+
+    @Test
+    void testStoreAndLoadPartialIndex() {
+        final var cache = new TagIndexCache(this.tempDir.resolve("tags.properties"));
+        cache.store(FINGERPRINT, List.of(new TaggedCommit(COMMIT_2, "1.1.0")), false);
+        assertThat(cache.load(FINGERPRINT).orElseThrow().isComplete(), equalTo(false));
+    }
+
+    @Test
+    void testStoreAndLoadEmptyList() {
+        final var cache = new TagIndexCache(this.tempDir.resolve("tags.properties"));
+        cache.store(FINGERPRINT, List.of(), true);
+        assertThat(cache.load(FINGERPRINT).orElseThrow().getTags().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testLoadWithOtherFingerprint() {
+        final var cache = new TagIndexCache(this.tempDir.resolve("tags.properties"));
+        cache.store(FINGERPRINT, List.of(new TaggedCommit(COMMIT_1, "1.0.0")), true);
+        assertThat(cache.load(FINGERPRINT + "refs/tags/1.1.0=123\n").isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testLoadMissingFile() {
+        assertThat(new TagIndexCache(this.tempDir.resolve("tags.properties")).load(FINGERPRINT).isEmpty(),
+                equalTo(true));
+    }
+
+    @Test
+    void testLoadBrokenCommitId() throws IOException {
+        final Path file = this.tempDir.resolve("tags.properties");
+        final var cache = new TagIndexCache(file);
+        cache.store(FINGERPRINT, List.of(new TaggedCommit(COMMIT_1, "1.0.0")), true);
+        Files.writeString(file, Files.readString(file).replace(COMMIT_1.name(), "broken"));
+        assertThat(cache.load(FINGERPRINT).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testStoreIntoUnwritableLocationIsIgnored() throws IOException {
+        final Path blockingFile = Files.createFile(this.tempDir.resolve("file"));
+        final var cache = new TagIndexCache(blockingFile.resolve("tags.properties"));
+        cache.store(FINGERPRINT, List.of(new TaggedCommit(COMMIT_1, "1.0.0")), true);
+        assertThat(cache.load(FINGERPRINT).isEmpty(), equalTo(true));
+    }
+}
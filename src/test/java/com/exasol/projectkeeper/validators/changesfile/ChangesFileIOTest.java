@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.equalTo;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +15,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.exasol.projectkeeper.FixTransaction;
+
 class ChangesFileIOTest {
     @TempDir
     Path tempDir;
@@ -34,7 +37,9 @@ class ChangesFileIOTest {
         final ChangesFile changesFile = ChangesFile.builder().setHeader(List.of("# MyChanges"))
                 .addSection(List.of("## My Subsection")).build();
         final Path testFile = this.tempDir.resolve("myFile.md");
-        new ChangesFileIO().write(changesFile, testFile);
+        final FixTransaction transaction = new FixTransaction();
+        new ChangesFileIO().write(changesFile, testFile, transaction);
+        transaction.commit();
         assertThat(Files.readString(testFile),
                 equalTo("# MyChanges" + System.lineSeparator() + "## My Subsection" + System.lineSeparator()));
     }
@@ -45,10 +50,24 @@ class ChangesFileIOTest {
         final ChangesFileIO changesFileIO = new ChangesFileIO();
         final ChangesFile changesFile = changesFileIO.read(changesFilePath);
         final Path testFile = this.tempDir.resolve("result.md");
-        changesFileIO.write(changesFile, testFile);
+        final FixTransaction transaction = new FixTransaction();
+        changesFileIO.write(changesFile, testFile, transaction);
+        transaction.commit();
         assertThat(Files.readString(testFile), equalTo(Files.readString(changesFilePath)));
     }
 
+    @Test
+    void testNonAsciiCharactersAreWrittenAsUtf8() throws IOException {
+        final ChangesFile changesFile = ChangesFile.builder().setHeader(List.of("# Änderungen ✓")).build();
+        final Path testFile = this.tempDir.resolve("unicode.md");
+        final FixTransaction transaction = new FixTransaction();
+        new ChangesFileIO().write(changesFile, testFile, transaction);
+        transaction.commit();
+        assertThat(Files.readString(testFile, StandardCharsets.UTF_8),
+                equalTo("# Änderungen ✓" + System.lineSeparator()));
+        assertThat(new ChangesFileIO().read(testFile).getHeading(), equalTo("# Änderungen ✓"));
+    }
+
     private Path loadExampleFileToTempDir() throws IOException {
         final Path changesFile = this.tempDir.resolve("changed_0.1.0.md");
         try (final InputStream exampleFileStream = getClass().getClassLoader()
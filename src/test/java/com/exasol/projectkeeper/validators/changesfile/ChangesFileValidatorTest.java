@@ -21,7 +21,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.exasol.projectkeeper.ProjectSnapshot;
 import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.repository.GitRepository;
 import com.exasol.projectkeeper.validators.SimpleMavenProjectFromFileReader;
 import com.exasol.projectkeeper.validators.TestMavenModel;
 
@@ -48,8 +50,8 @@ class ChangesFileValidatorTest {
     @Test
     void testValidationForSnapshotVersion() throws IOException {
         createTestSetup();
-        assertThat(new ChangesFileValidator(A_VERSION + "-SNAPSHOT", A_PROJECT_NAME, this.tempDir.toPath(),
-                MAVEN_MODEL_READER), hasNoValidationFindings());
+        assertThat(new ChangesFileValidator(A_VERSION + "-SNAPSHOT", A_PROJECT_NAME, createProjectSnapshot()),
+                hasNoValidationFindings());
     }
 
     @Test
@@ -84,7 +86,13 @@ class ChangesFileValidatorTest {
     }
 
     private ChangesFileValidator createValidator() {
-        return new ChangesFileValidator(A_VERSION, A_PROJECT_NAME, this.tempDir.toPath(), MAVEN_MODEL_READER);
+        return new ChangesFileValidator(A_VERSION, A_PROJECT_NAME, createProjectSnapshot());
+    }
+
+    private ProjectSnapshot createProjectSnapshot() {
+        final Path projectDir = this.tempDir.toPath();
+        return new ProjectSnapshot(projectDir, projectDir.resolve("pom.xml").toFile(), MAVEN_MODEL_READER,
+                new GitRepository(projectDir));
     }
 
     private void createTestSetup() throws IOException {
@@ -18,7 +18,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.exasol.projectkeeper.ProjectSnapshot;
 import com.exasol.projectkeeper.pom.MavenProjectFromFileReader;
+import com.exasol.projectkeeper.repository.GitRepository;
 import com.exasol.projectkeeper.validators.SimpleMavenProjectFromFileReader;
 import com.exasol.projectkeeper.validators.TestMavenModel;
 
@@ -42,10 +44,15 @@ class DependencySectionFixerTest {
         return model;
     }
 
+    private static ProjectSnapshot createProjectSnapshot() {
+        return new ProjectSnapshot(tempDir, tempDir.resolve("pom.xml").toFile(), MAVEN_MODEL_READER,
+                new GitRepository(tempDir));
+    }
+
     @Test
     void testSectionIsAdded() {
         final ChangesFile changesFile = ChangesFile.builder().setHeader(List.of("heading")).build();
-        final List<ChangesFileSection> sections = new DependencySectionFixer(MAVEN_MODEL_READER, tempDir)
+        final List<ChangesFileSection> sections = new DependencySectionFixer(createProjectSnapshot())
                 .fix(changesFile).getSections();
         assertThat(sections.size(), equalTo(1));
         assertThat(sections.get(0).getHeading(), equalTo(DEPENDENCY_UPDATES_HEADING));
@@ -55,7 +62,7 @@ class DependencySectionFixerTest {
     void testSectionIsUpdated() {
         final ChangesFile changesFile = ChangesFile.builder().setHeader(List.of("heading"))
                 .addSection(List.of(DEPENDENCY_UPDATES_HEADING, "myLine")).build();
-        final ChangesFile fixedChangesFile = new DependencySectionFixer(MAVEN_MODEL_READER, tempDir).fix(changesFile);
+        final ChangesFile fixedChangesFile = new DependencySectionFixer(createProjectSnapshot()).fix(changesFile);
         final List<ChangesFileSection> sections = fixedChangesFile.getSections();
         assertThat(sections.size(), equalTo(1));
         assertThat(sections.get(0).getHeading(), equalTo(DEPENDENCY_UPDATES_HEADING));
@@ -66,7 +73,7 @@ class DependencySectionFixerTest {
     void testHeaderIsPreserved() {
         final ChangesFile changesFile = ChangesFile.builder().setHeader(List.of("heading"))
                 .addSection(List.of(DEPENDENCY_UPDATES_HEADING, "myLine")).build();
-        final ChangesFile fixedChangesFile = new DependencySectionFixer(MAVEN_MODEL_READER, tempDir).fix(changesFile);
+        final ChangesFile fixedChangesFile = new DependencySectionFixer(createProjectSnapshot()).fix(changesFile);
         assertThat(changesFile.getHeaderSectionLines(), equalTo(fixedChangesFile.getHeaderSectionLines()));
     }
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.exasol.projectkeeper.repository.GitRepository;
+
 class LastReleasePomFileReaderTest {
     private static final String CURRENT_VERSION = "1.0.0";
     @TempDir
@@ -29,6 +31,17 @@ class LastReleasePomFileReaderTest {
         }
     }
 
+    @Test
+    void testReadingAsStream() throws IOException, GitAPIException {
+        try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();
+                final GitRepository repository = new GitRepository(this.tempDir)) {
+            makeRelease(git, "0.1.0", "myContent");
+            final Optional<Integer> length = new LastReleasePomFileReader().readLatestReleasesPomFile(repository,
+                    CURRENT_VERSION, content -> content.readAllBytes().length);
+            assertThat(length.orElseThrow(), equalTo(9));
+        }
+    }
+
     @Test
     void testReadingWithNonReleaseTag() throws IOException, GitAPIException {
         try (final Git git = Git.init().setDirectory(this.tempDir.toFile()).call();) {
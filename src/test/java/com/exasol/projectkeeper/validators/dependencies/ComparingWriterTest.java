@@ -0,0 +1,83 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class ComparingWriterTest {
+    @Test
+    void testEqualContent() throws IOException {
+        assertThat(compare("line 1\nline 2\n", "line 1\nline 2\n"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testEmptyContent() throws IOException {
+        assertThat(compare("", ""), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testDifferentLine() throws IOException {
+        final ComparingWriter.Difference difference = compare("line 1\nline 2 new\nline 3\n",
+                "line 1\nline 2 old\nline 3\n").orElseThrow();
+        assertThat(difference.getLineNumber(), equalTo(2));
+        assertThat(difference.getExpectedLine(), equalTo("line 2 new"));
+        assertThat(difference.getActualLine(), equalTo("line 2 old"));
+    }
+
+    @Test
+    void testOnlyFirstDifferenceIsReported() throws IOException {
+        final ComparingWriter.Difference difference = compare("a\nb\nc\n", "x\ny\nz\n").orElseThrow();
+        assertThat(difference.getLineNumber(), equalTo(1));
+        assertThat(difference.getExpectedLine(), equalTo("a"));
+        assertThat(difference.getActualLine(), equalTo("x"));
+    }
+
+    @Test
+    void testLongerActualLine() throws IOException {
+        final ComparingWriter.Difference difference = compare("line\nnext\n", "line with more\nnext\n")
+                .orElseThrow();
+        assertThat(difference.getExpectedLine(), equalTo("line"));
+        assertThat(difference.getActualLine(), equalTo("line with more"));
+    }
+
+    @Test
+    void testMissingActualLine() throws IOException {
+        final ComparingWriter.Difference difference = compare("line 1\nline 2\n", "line 1\n").orElseThrow();
+        assertThat(difference.getLineNumber(), equalTo(2));
+        assertThat(difference.getExpectedLine(), equalTo("line 2"));
+        assertThat(difference.getActualLine(), nullValue());
+    }
+
+    @Test
+    void testAdditionalActualLine() throws IOException {
+        final ComparingWriter.Difference difference = compare("line 1\n", "line 1\nline 2\n").orElseThrow();
+        assertThat(difference.getLineNumber(), equalTo(2));
+        assertThat(difference.getExpectedLine(), nullValue());
+        assertThat(difference.getActualLine(), equalTo("line 2"));
+    }
+
+    @Test
+    void testCarriageReturnIsNotPartOfLine() throws IOException {
+        final ComparingWriter.Difference difference = compare("line 1\r\nnew\r\n", "line 1\r\nold\r\n")
+                .orElseThrow();
+        assertThat(difference.getExpectedLine(), equalTo("new"));
+        assertThat(difference.getActualLine(), equalTo("old"));
+    }
+
+    private static Optional<ComparingWriter.Difference> compare(final String expected, final String actual)
+            throws IOException {
+        final var writer = new ComparingWriter(new StringReader(actual));
+        // write in small chunks like the renderer does
+        for (int index = 0; index < expected.length(); index += 3) {
+            writer.write(expected.substring(index, Math.min(index + 3, expected.length())));
+        }
+        writer.close();
+        return writer.getDifference();
+    }
+}
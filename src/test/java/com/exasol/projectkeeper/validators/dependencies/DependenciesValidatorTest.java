@@ -0,0 +1,149 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.projectkeeper.BrokenLinkReplacer;
+import com.exasol.projectkeeper.ProjectSnapshot;
+import com.exasol.projectkeeper.pom.MavenModelFromRepositoryReader;
+import com.exasol.projectkeeper.repository.GitRepository;
+import com.exasol.projectkeeper.validators.SimpleMavenProjectFromFileReader;
+import com.exasol.projectkeeper.validators.TestMavenModel;
+import com.exasol.projectkeeper.validators.dependencies.renderer.DependencyPageRenderer;
+
+class DependenciesValidatorTest {
+    private static final BrokenLinkReplacer NO_REPLACEMENTS = new BrokenLinkReplacer(List.of());
+    @TempDir
+    Path tempDir;
+    private ProjectSnapshot projectSnapshot;
+    private MavenModelFromRepositoryReader modelReader;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        new TestMavenModel().writeAsPomToProject(this.tempDir);
+        this.projectSnapshot = new ProjectSnapshot(this.tempDir, this.tempDir.resolve("pom.xml").toFile(),
+                new SimpleMavenProjectFromFileReader(), new GitRepository(this.tempDir));
+        this.modelReader = mock(MavenModelFromRepositoryReader.class);
+    }
+
+    @Test
+    void testInputsAreStable() {
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS, false),
+                equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS, false)));
+    }
+
+    @Test
+    void testInputsContainKeepReferences() {
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS, true),
+                not(equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false))));
+    }
+
+    @Test
+    void testInputsContainLinkReplacements() {
+        final BrokenLinkReplacer replacer = new BrokenLinkReplacer(List.of("https://a.com|https://b.com"));
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader), replacer, false),
+                not(equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false))));
+    }
+
+    @Test
+    void testInputsContainOfflineMode() {
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader).offline(true), NO_REPLACEMENTS,
+                false), not(equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false))));
+    }
+
+    @Test
+    void testInputsContainReuseOfKnownMetadata() {
+        assertThat(
+                getFingerprint(ProjectDependencyReader.builder(this.modelReader).reuseKnownMetadata(false),
+                        NO_REPLACEMENTS, false),
+                not(equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false))));
+    }
+
+    @Test
+    void testInputsContainTransitiveDependencies() {
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader)
+                .transitiveDependencyCollector(mock(TransitiveDependencyCollector.class)), NO_REPLACEMENTS, false),
+                not(equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false))));
+    }
+
+    @Test
+    void testInputsIgnoreParallelism() {
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader).parallelism(4), NO_REPLACEMENTS,
+                false), equalTo(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                        false)));
+    }
+
+    @Test
+    void testInputsContainParentPom() throws IOException {
+        final Path parentPom = this.tempDir.resolve("parent.pom");
+        Files.writeString(parentPom, "<project>1</project>");
+        final var reader = new SimpleMavenProjectFromFileReader();
+        this.projectSnapshot = new ProjectSnapshot(this.tempDir, this.tempDir.resolve("pom.xml").toFile(), pomFile -> {
+            final MavenProject project = reader.readProject(pomFile);
+            final MavenProject parent = new MavenProject(new Model());
+            parent.setFile(parentPom.toFile());
+            project.setParent(parent);
+            return project;
+        }, new GitRepository(this.tempDir));
+        final String fingerprint = getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS,
+                false);
+        Files.writeString(parentPom, "<project>2</project>");
+        assertThat(getFingerprint(ProjectDependencyReader.builder(this.modelReader), NO_REPLACEMENTS, false),
+                not(equalTo(fingerprint)));
+    }
+
+    @Test
+    void testReusesPageWithSameLinkReplacements() throws IOException {
+        final BrokenLinkReplacer replacer = new BrokenLinkReplacer(List.of("https://a.com|https://b.com"));
+        final ProjectDependencyReader reader = mock(ProjectDependencyReader.class);
+        writeDependenciesFile(replacer);
+        new DependenciesValidator(this.projectSnapshot, reader, replacer).validate(finding -> {
+        });
+        verify(reader).readDependencies(any(), argThat(knownMetadata -> knownMetadata.size() == 1));
+    }
+
+    @Test
+    void testDoesNotReusePageWithChangedLinkReplacements() throws IOException {
+        final ProjectDependencyReader reader = mock(ProjectDependencyReader.class);
+        writeDependenciesFile(new BrokenLinkReplacer(List.of("https://a.com|https://b.com")));
+        new DependenciesValidator(this.projectSnapshot, reader, NO_REPLACEMENTS).validate(finding -> {
+        });
+        verify(reader).readDependencies(any(), eq(Map.of()));
+    }
+
+    private void writeDependenciesFile(final BrokenLinkReplacer replacer) throws IOException {
+        final List<ProjectDependency> dependencies = List.of(new ProjectDependency("my-lib", "https://b.com",
+                List.of(), ProjectDependency.Type.COMPILE, "com.example:my-lib:1.0.0"));
+        Files.writeString(this.tempDir.resolve("dependencies.md"),
+                new DependencyPageRenderer(Map.of(), replacer.getFingerprint()).render(dependencies));
+    }
+
+    private String getFingerprint(final ProjectDependencyReader.Builder readerBuilder,
+            final BrokenLinkReplacer brokenLinkReplacer, final boolean keepReferences) {
+        return new DependenciesValidator(this.projectSnapshot, readerBuilder.build(), brokenLinkReplacer,
+                keepReferences).getInputs().orElseThrow().fingerprint();
+    }
+}
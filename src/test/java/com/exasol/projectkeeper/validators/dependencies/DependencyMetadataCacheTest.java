@@ -0,0 +1,103 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DependencyMetadataCacheTest {
+    private static final Instant NOW = Instant.parse("2021-06-01T12:00:00Z");
+    private static final Duration SNAPSHOT_TIME_TO_LIVE = Duration.ofHours(24);
+    private static final DependencyMetadata METADATA = new DependencyMetadata("My Library",
+            "https://example.com/my-library", List.of(new License("MIT", "https://opensource.org/licenses/MIT"),
+                    new License("Apache License 2.0", null)));
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testMissingEntry() {
+        assertThat(cacheAt(NOW).get("com.example", "my-library", "1.0.0"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testStoredEntryIsRead() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        final DependencyMetadata cached = cacheAt(NOW).get("com.example", "my-library", "1.0.0").orElseThrow();
+        assertThat(cached.getName(), equalTo("My Library"));
+        assertThat(cached.getWebsiteUrl(), equalTo("https://example.com/my-library"));
+        assertThat(cached.getLicenses().stream().map(License::getName).collect(Collectors.toList()),
+                contains("MIT", "Apache License 2.0"));
+        assertThat(cached.getLicenses().get(1).getUrl(), nullValue());
+    }
+
+    @Test
+    void testEntryWithoutUrlAndLicenses() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", new DependencyMetadata("My Library", null, List.of()));
+        final DependencyMetadata cached = cacheAt(NOW).get("com.example", "my-library", "1.0.0").orElseThrow();
+        assertThat(cached.getWebsiteUrl(), nullValue());
+        assertThat(cached.getLicenses().size(), equalTo(0));
+    }
+
+    @Test
+    void testVersionsAreSeparate() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        assertThat(cacheAt(NOW).get("com.example", "my-library", "1.0.1"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testReleaseEntryNeverExpires() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        assertThat(cacheAt(NOW.plus(Duration.ofDays(1000))).get("com.example", "my-library", "1.0.0").isPresent(),
+                equalTo(true));
+    }
+
+    @Test
+    void testSnapshotEntryIsValidWithinTimeToLive() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0-SNAPSHOT", METADATA);
+        assertThat(cacheAt(NOW.plus(Duration.ofHours(23))).get("com.example", "my-library", "1.0.0-SNAPSHOT")
+                .isPresent(), equalTo(true));
+    }
+
+    @Test
+    void testSnapshotEntryExpires() {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0-SNAPSHOT", METADATA);
+        assertThat(cacheAt(NOW.plus(Duration.ofHours(25))).get("com.example", "my-library", "1.0.0-SNAPSHOT"),
+                equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testBrokenEntryIsIgnored() throws IOException {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        final Path entry = this.cacheDirectory.resolve("com.example").resolve("my-library").resolve("1.0.0.properties");
+        Files.writeString(entry, "\\u00");
+        assertThat(cacheAt(NOW).get("com.example", "my-library", "1.0.0"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testNoTemporaryFilesAreLeft() throws IOException {
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        cacheAt(NOW).put("com.example", "my-library", "1.0.0", METADATA);
+        try (final Stream<Path> files = Files.list(this.cacheDirectory.resolve("com.example").resolve("my-library"))) {
+            assertThat(files.map(file -> file.getFileName().toString()).collect(Collectors.toList()),
+                    contains("1.0.0.properties"));
+        }
+    }
+
+    private DependencyMetadataCache cacheAt(final Instant now) {
+        return new DependencyMetadataCache(this.cacheDirectory, SNAPSHOT_TIME_TO_LIVE,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,204 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PomMetadataExtractorTest {
+    private static final String PARENT = "<parent><groupId>com.example</groupId><artifactId>parent</artifactId>"
+            + "<version>1.0.0</version></parent>";
+    private static final String MIT_LICENSE = "<licenses><license><name>MIT</name>"
+            + "<url>https://opensource.org/licenses/MIT</url><distribution>repo</distribution></license></licenses>";
+    private static final String CHILD = "<project>" + PARENT + "<artifactId>library</artifactId></project>";
+
+    @TempDir
+    Path localRepository;
+
+    @Test
+    void testDeclaredFields() throws IOException {
+        writePom("com.example", "library", "1.0.0", "<project><artifactId>library</artifactId><name>My Library</name>"
+                + "<url>https://example.com/library</url>" + MIT_LICENSE + "</project>");
+        final DependencyMetadata metadata = extract("library").orElseThrow();
+        assertThat(metadata.getName(), equalTo("My Library"));
+        assertThat(metadata.getWebsiteUrl(), equalTo("https://example.com/library"));
+        assertThat(metadata.getLicenses().get(0).getName(), equalTo("MIT"));
+        assertThat(metadata.getLicenses().get(0).getUrl(), equalTo("https://opensource.org/licenses/MIT"));
+    }
+
+    @Test
+    void testNameFallsBackToArtifactId() throws IOException {
+        writePom("com.example", "library", "1.0.0", "<project><artifactId>library</artifactId></project>");
+        final DependencyMetadata metadata = extract("library").orElseThrow();
+        assertThat(metadata.getName(), equalTo("library"));
+        assertThat(metadata.getWebsiteUrl(), nullValue());
+        assertThat(metadata.getLicenses().size(), equalTo(0));
+    }
+
+    @Test
+    void testNameIsNotInherited() throws IOException {
+        writeParent("<project><name>Parent</name></project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library").orElseThrow().getName(), equalTo("library"));
+    }
+
+    @Test
+    void testLicensesAreInherited() throws IOException {
+        writeParent("<project>" + MIT_LICENSE + "</project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library").orElseThrow().getLicenses().stream().map(License::getName)
+                .collect(Collectors.toList()), contains("MIT"));
+    }
+
+    @Test
+    void testOwnLicensesReplaceInheritedOnes() throws IOException {
+        writeParent("<project>" + MIT_LICENSE + "</project>");
+        writePom("com.example", "library", "1.0.0", "<project>" + PARENT + "<artifactId>library</artifactId>"
+                + "<licenses><license><name>Apache License 2.0</name></license></licenses></project>");
+        assertThat(extract("library").orElseThrow().getLicenses().stream().map(License::getName)
+                .collect(Collectors.toList()), contains("Apache License 2.0"));
+    }
+
+    @Test
+    void testUrlIsInheritedWithArtifactId() throws IOException {
+        writeParent("<project><url>https://example.com/parent/</url></project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library").orElseThrow().getWebsiteUrl(), equalTo("https://example.com/parent/library"));
+    }
+
+    @Test
+    void testUrlIsInheritedWithoutArtifactId() throws IOException {
+        writeParent("<project child.project.url.inherit.append.path=\"false\"><url>https://example.com</url>"
+                + "</project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library").orElseThrow().getWebsiteUrl(), equalTo("https://example.com"));
+    }
+
+    @Test
+    void testFallbackForInterpolatedField() throws IOException {
+        writePom("com.example", "library", "1.0.0", "<project><artifactId>library</artifactId>"
+                + "<url>https://example.com/${project.artifactId}</url></project>");
+        assertThat(extract("library"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testFallbackForInterpolatedInheritedField() throws IOException {
+        writeParent("<project><licenses><license><name>${license.name}</name></license></licenses></project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testFallbackForMissingPom() {
+        assertThat(extract("library"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testFallbackForMissingParent() throws IOException {
+        writePom("com.example", "library", "1.0.0", CHILD);
+        assertThat(extract("library"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testFallbackForInvalidPom() throws IOException {
+        writePom("com.example", "library", "1.0.0", "<project><artifactId>library</artifactId>");
+        assertThat(extract("library"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testElementsOutsideOfProjectAreIgnored() throws IOException {
+        writePom("com.example", "library", "1.0.0", "<project><artifactId>library</artifactId>"
+                + "<organization><name>Example</name><url>https://example.com</url></organization>"
+                + "<developers><developer><name>Jane</name></developer></developers></project>");
+        final DependencyMetadata metadata = extract("library").orElseThrow();
+        assertThat(metadata.getName(), equalTo("library"));
+        assertThat(metadata.getWebsiteUrl(), nullValue());
+    }
+
+    @Test
+    void testParentIsReadOnce() throws IOException {
+        writeParent("<project>" + MIT_LICENSE + "</project>");
+        writePom("com.example", "library", "1.0.0", CHILD);
+        writePom("com.example", "other-library", "1.0.0",
+                "<project>" + PARENT + "<artifactId>other-library</artifactId></project>");
+        final var extractor = new PomMetadataExtractor(this.localRepository);
+        extractor.extract("com.example", "library", "1.0.0");
+        writeParent("<project><licenses><license><name>Changed</name></license></licenses></project>");
+        assertThat(extractor.extract("com.example", "other-library", "1.0.0").orElseThrow().getLicenses().get(0)
+                .getName(), equalTo("MIT"));
+    }
+
+    @Test
+    void testMissingParentIsRemembered() throws IOException {
+        writePom("com.example", "library", "1.0.0", CHILD);
+        final var extractor = new PomMetadataExtractor(this.localRepository);
+        extractor.extract("com.example", "library", "1.0.0");
+        writeParent("<project>" + MIT_LICENSE + "</project>");
+        assertThat(extractor.extract("com.example", "library", "1.0.0"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void testConcurrentLookupsWithSharedParent() throws IOException, InterruptedException, ExecutionException {
+        writeParent("<project><url>https://example.com</url>" + MIT_LICENSE + "</project>");
+        for (int index = 0; index < 32; index++) {
+            writePom("com.example", "library-" + index, "1.0.0",
+                    "<project>" + PARENT + "<artifactId>library-" + index + "</artifactId></project>");
+        }
+        final var extractor = new PomMetadataExtractor(this.localRepository);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Optional<DependencyMetadata>>> results = new ArrayList<>();
+            for (int index = 0; index < 32; index++) {
+                final String artifactId = "library-" + index;
+                results.add(executor.submit(() -> extractor.extract("com.example", artifactId, "1.0.0")));
+            }
+            for (int index = 0; index < results.size(); index++) {
+                final DependencyMetadata metadata = results.get(index).get().orElseThrow();
+                assertThat(metadata.getWebsiteUrl(), equalTo("https://example.com/library-" + index));
+                assertThat(metadata.getLicenses().get(0).getName(), equalTo("MIT"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({ //
+            "https://example.com, child, https://example.com/child", //
+            "https://example.com/, child, https://example.com/child", //
+            "https://example.com/parent/../, child, https://example.com/child", //
+            "https://example.com/./parent//, child, https://example.com/parent/child", //
+            "/local/path, child, /local/path/child" //
+    })
+    void testAppendPath(final String parentUrl, final String childArtifactId, final String expected) {
+        assertThat(PomMetadataExtractor.appendPath(parentUrl, childArtifactId), equalTo(expected));
+    }
+
+    private Optional<DependencyMetadata> extract(final String artifactId) {
+        return new PomMetadataExtractor(this.localRepository).extract("com.example", artifactId, "1.0.0");
+    }
+
+    private void writeParent(final String content) throws IOException {
+        writePom("com.example", "parent", "1.0.0", content);
+    }
+
+    private void writePom(final String groupId, final String artifactId, final String version, final String content)
+            throws IOException {
+        final Path directory = this.localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId)
+                .resolve(version);
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(artifactId + "-" + version + ".pom"), content);
+    }
+}
@@ -0,0 +1,266 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.maven.model.*;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.projectkeeper.pom.MavenModelFromRepositoryReader;
+
+class ProjectDependencyReaderTest {
+    private static final int NUMBER_OF_DEPENDENCIES = 10;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 16 })
+    void testDependenciesAreInOrderOfPom(final int parallelism) throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any())).thenAnswer(invocation -> {
+            final String artifactId = invocation.getArgument(0);
+            // the first dependencies take longest, so that the lookups finish in reverse order
+            Thread.sleep(5L * (NUMBER_OF_DEPENDENCIES - Integer.parseInt(artifactId.replaceAll("\\D", ""))));
+            return model(artifactId);
+        });
+        final List<String> names = ProjectDependencyReader.builder(modelReader).parallelism(parallelism).build()
+                .readDependencies(project()).stream().map(ProjectDependency::getName).collect(Collectors.toList());
+        assertThat(names, contains("Name of dependency-0", "Name of dependency-1", "Name of dependency-2",
+                "Name of dependency-3", "Name of dependency-4", "Name of dependency-5", "Name of dependency-6",
+                "Name of dependency-7", "Name of plugin-8", "Name of plugin-9"));
+    }
+
+    @Test
+    void testPluginsHavePluginType() throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final List<ProjectDependency.Type> types = ProjectDependencyReader.builder(modelReader).parallelism(4).build()
+                .readDependencies(project()).stream().map(ProjectDependency::getType).collect(Collectors.toList());
+        assertThat(types.subList(7, 10), contains(ProjectDependency.Type.TEST, ProjectDependency.Type.PLUGIN,
+                ProjectDependency.Type.PLUGIN));
+    }
+
+    @Test
+    void testFailedLookupIsPropagated() throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenThrow(new ProjectBuildingException("project", "not found", (Throwable) null));
+        final ProjectDependencyReader reader = ProjectDependencyReader.builder(modelReader).parallelism(4).build();
+        final MavenProject project = project();
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> reader.readDependencies(project));
+        assertThat(exception.getMessage(), startsWith("E-PK-49"));
+    }
+
+    @Test
+    void testCachedLicensesAreNotReadAgain(@TempDir final Path cacheDirectory) throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final var cache = new DependencyMetadataCache(cacheDirectory, Duration.ofHours(1));
+        ProjectDependencyReader.builder(modelReader).parallelism(4).metadataCache(cache).build()
+                .readDependencies(project());
+        final List<String> names = ProjectDependencyReader.builder(modelReader).parallelism(4).metadataCache(cache)
+                .build().readDependencies(project()).stream().map(ProjectDependency::getName)
+                .collect(Collectors.toList());
+        verify(modelReader, times(NUMBER_OF_DEPENDENCIES)).readModel(anyString(), anyString(), anyString(), any());
+        assertThat(names.get(0), equalTo("Name of dependency-0"));
+    }
+
+    @Test
+    void testLocalPomsAreReadWithoutProjectBuilder(@TempDir final Path localRepository)
+            throws ProjectBuildingException, IOException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        for (int index = 0; index < NUMBER_OF_DEPENDENCIES; index++) {
+            final String artifactId = (index < 8 ? "dependency-" : "plugin-") + index;
+            writeLocalPom(localRepository, artifactId, index == 0 ? "${project.artifactId}" : "Local " + artifactId);
+        }
+        final List<String> names = ProjectDependencyReader.builder(modelReader)
+                .pomMetadataExtractor(new PomMetadataExtractor(localRepository)).build().readDependencies(project())
+                .stream().map(ProjectDependency::getName).collect(Collectors.toList());
+        verify(modelReader, times(1)).readModel(anyString(), anyString(), anyString(), any());
+        assertThat(names.subList(0, 2), contains("Name of dependency-0", "Local dependency-1"));
+    }
+
+    @Test
+    void testOfflineModeReportsAllMissingDependencies(@TempDir final Path localRepository)
+            throws ProjectBuildingException, IOException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModelOffline(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            final String artifactId = invocation.getArgument(0);
+            if (artifactId.equals("dependency-1") || artifactId.equals("plugin-9")) {
+                throw new ProjectBuildingException("project", "not in local repository", (Throwable) null);
+            }
+            return model(artifactId);
+        });
+        writeLocalPom(localRepository, "dependency-0", "Local dependency-0");
+        final ProjectDependencyReader reader = ProjectDependencyReader.builder(modelReader).parallelism(4)
+                .pomMetadataExtractor(new PomMetadataExtractor(localRepository)).offline(true).build();
+        final MavenProject project = project();
+        final MissingDependenciesException exception = assertThrows(MissingDependenciesException.class,
+                () -> reader.readDependencies(project));
+        assertThat(exception.getMissingDependencies(),
+                contains("com.example:dependency-1:1.0.0", "com.example:plugin-9:1.0.0"));
+        assertThat(exception.getMessage(), startsWith("E-PK-84"));
+        verify(modelReader, never()).readModel(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void testOfflineModeUsesCache(@TempDir final Path cacheDirectory) throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        when(modelReader.readModelOffline(anyString(), anyString(), anyString()))
+                .thenThrow(new ProjectBuildingException("project", "not in local repository", (Throwable) null));
+        final var cache = new DependencyMetadataCache(cacheDirectory, Duration.ofHours(1));
+        ProjectDependencyReader.builder(modelReader).metadataCache(cache).build().readDependencies(project());
+        final List<ProjectDependency> dependencies = ProjectDependencyReader.builder(modelReader)
+                .metadataCache(cache).offline(true).build().readDependencies(project());
+        assertThat(dependencies.size(), equalTo(NUMBER_OF_DEPENDENCIES));
+    }
+
+    @Test
+    void testKnownMetadataIsNotReadAgain() throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final Map<String, DependencyMetadata> knownMetadata = Map.of("com.example:dependency-0:1.0.0",
+                new DependencyMetadata("Known dependency-0", null, List.of()));
+        final List<ProjectDependency> dependencies = ProjectDependencyReader.builder(modelReader).build()
+                .readDependencies(project(), knownMetadata);
+        verify(modelReader, times(NUMBER_OF_DEPENDENCIES - 1)).readModel(anyString(), anyString(), anyString(),
+                any());
+        assertThat(dependencies.get(0).getName(), equalTo("Known dependency-0"));
+        assertThat(dependencies.get(0).getCoordinates(), equalTo("com.example:dependency-0:1.0.0"));
+    }
+
+    @Test
+    void testKnownMetadataOfSnapshotIsReadAgain() throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final MavenProject project = project();
+        project.getModel().getDependencies().get(0).setVersion("1.0.0-SNAPSHOT");
+        final List<ProjectDependency> dependencies = ProjectDependencyReader.builder(modelReader).build()
+                .readDependencies(project, Map.of("com.example:dependency-0:1.0.0-SNAPSHOT",
+                        new DependencyMetadata("Known dependency-0", null, List.of())));
+        assertThat(dependencies.get(0).getName(), equalTo("Name of dependency-0"));
+    }
+
+    @Test
+    void testKnownMetadataCanBeIgnored() throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final List<ProjectDependency> dependencies = ProjectDependencyReader.builder(modelReader)
+                .reuseKnownMetadata(false).build().readDependencies(project(), Map.of("com.example:dependency-0:1.0.0",
+                        new DependencyMetadata("Known dependency-0", null, List.of())));
+        assertThat(dependencies.get(0).getName(), equalTo("Name of dependency-0"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4 })
+    void testTransitiveDependenciesAreAppended(final int parallelism) throws ProjectBuildingException {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        when(modelReader.readModel(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> model(invocation.getArgument(0)));
+        final TransitiveDependencyCollector collector = mock(TransitiveDependencyCollector.class);
+        doAnswer(invocation -> {
+            final Consumer<Dependency> consumer = invocation.getArgument(1);
+            for (final String artifactId : List.of("transitive-a", "transitive-b")) {
+                final var dependency = new Dependency();
+                dependency.setGroupId("com.example");
+                dependency.setArtifactId(artifactId);
+                dependency.setVersion("1.0.0");
+                dependency.setScope("transitive");
+                consumer.accept(dependency);
+            }
+            return null;
+        }).when(collector).collect(any(), any());
+        final List<ProjectDependency> dependencies = ProjectDependencyReader.builder(modelReader)
+                .parallelism(parallelism).transitiveDependencyCollector(collector).build()
+                .readDependencies(project());
+        assertThat(dependencies.size(), equalTo(NUMBER_OF_DEPENDENCIES + 2));
+        final ProjectDependency lastDependency = dependencies.get(NUMBER_OF_DEPENDENCIES + 1);
+        assertThat(lastDependency.getName(), equalTo("Name of transitive-b"));
+        assertThat(lastDependency.getType(), equalTo(ProjectDependency.Type.TRANSITIVE));
+        assertThat(lastDependency.getCoordinates(), equalTo("com.example:transitive-b:1.0.0"));
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        final MavenModelFromRepositoryReader modelReader = mock(MavenModelFromRepositoryReader.class);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ProjectDependencyReader.builder(modelReader).parallelism(0));
+        assertThat(exception.getMessage(), startsWith("E-PK-82"));
+    }
+
+    private static void writeLocalPom(final Path localRepository, final String artifactId, final String name)
+            throws IOException {
+        final Path directory = localRepository.resolve("com/example").resolve(artifactId).resolve("1.0.0");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(artifactId + "-1.0.0.pom"),
+                "<project><artifactId>" + artifactId + "</artifactId><name>" + name + "</name></project>");
+    }
+
+    private static MavenProject project() {
+        final var model = new Model();
+        IntStream.range(0, 8).forEach(index -> {
+            final var dependency = new Dependency();
+            dependency.setGroupId("com.example");
+            dependency.setArtifactId("dependency-" + index);
+            dependency.setVersion("1.0.0");
+            dependency.setScope(index == 7 ? "test" : "compile");
+            model.addDependency(dependency);
+        });
+        final var build = new Build();
+        IntStream.range(8, NUMBER_OF_DEPENDENCIES).forEach(index -> {
+            final var plugin = new Plugin();
+            plugin.setGroupId("com.example");
+            plugin.setArtifactId("plugin-" + index);
+            plugin.setVersion("1.0.0");
+            build.addPlugin(plugin);
+        });
+        model.setBuild(build);
+        return new MavenProject(model);
+    }
+
+    private static Model model(final String artifactId) {
+        final var model = new Model();
+        model.setArtifactId(artifactId);
+        model.setName("Name of " + artifactId);
+        model.setUrl("https://example.com/" + artifactId);
+        final var license = new org.apache.maven.model.License();
+        license.setName("MIT");
+        license.setUrl("https://opensource.org/licenses/MIT");
+        model.addLicense(license);
+        return model;
+    }
+}
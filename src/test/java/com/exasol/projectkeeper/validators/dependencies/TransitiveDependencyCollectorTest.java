@@ -0,0 +1,133 @@
+package com.exasol.projectkeeper.validators.dependencies;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.*;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransitiveDependencyCollectorTest {
+    private RepositorySystem repositorySystem;
+    private TransitiveDependencyCollector collector;
+
+    @BeforeEach
+    void beforeEach() {
+        this.repositorySystem = mock(RepositorySystem.class);
+        this.collector = new TransitiveDependencyCollector(this.repositorySystem, new DefaultRepositorySystemSession());
+    }
+
+    @Test
+    void testTransitiveDependenciesAreReportedBreadthFirst() throws DependencyCollectionException {
+        final DefaultDependencyNode libraryA = node("library-a", "compile");
+        final DefaultDependencyNode libraryB = node("library-b", "runtime");
+        final DefaultDependencyNode deepDependency = node("deep", "compile");
+        final DefaultDependencyNode transitiveA = node("transitive-a", "compile");
+        transitiveA.setChildren(new ArrayList<>(List.of(deepDependency)));
+        libraryA.setChildren(new ArrayList<>(List.of(transitiveA, node("library-b", "compile"))));
+        libraryB.setChildren(new ArrayList<>(List.of(node("transitive-b", "runtime"))));
+        mockGraph(libraryA, libraryB);
+        assertThat(collectArtifactIds(), contains("transitive-a", "transitive-b", "deep"));
+    }
+
+    @Test
+    void testEachDependencyIsReportedOnce() throws DependencyCollectionException {
+        final DefaultDependencyNode libraryA = node("library-a", "compile");
+        final DefaultDependencyNode libraryB = node("library-b", "compile");
+        libraryA.setChildren(new ArrayList<>(List.of(node("shared", "compile"))));
+        libraryB.setChildren(new ArrayList<>(List.of(node("shared", "compile"))));
+        mockGraph(libraryA, libraryB);
+        assertThat(collectArtifactIds(), contains("shared"));
+    }
+
+    @Test
+    void testDependenciesThatAreNotShippedAreSkipped() throws DependencyCollectionException {
+        final DefaultDependencyNode libraryA = node("library-a", "compile");
+        libraryA.setChildren(
+                new ArrayList<>(List.of(node("provided", "provided"), node("test", "test"), node("shipped", ""))));
+        mockGraph(libraryA);
+        assertThat(collectArtifactIds(), contains("shipped"));
+    }
+
+    @Test
+    void testDirectTestDependencyIsNotReportedAsTransitive() throws DependencyCollectionException {
+        final DefaultDependencyNode libraryA = node("library-a", "compile");
+        libraryA.setChildren(new ArrayList<>(List.of(node("test-library", "compile"), node("other", "compile"))));
+        mockGraph(libraryA);
+        assertThat(collectArtifactIds(), contains("other"));
+    }
+
+    @Test
+    void testDependenciesHaveTransitiveScope() throws DependencyCollectionException {
+        final DefaultDependencyNode libraryA = node("library-a", "compile");
+        libraryA.setChildren(new ArrayList<>(List.of(node("transitive-a", "compile"))));
+        mockGraph(libraryA);
+        final List<Dependency> dependencies = new ArrayList<>();
+        this.collector.collect(project(), dependencies::add);
+        assertThat(dependencies.stream().map(Dependency::getScope).collect(Collectors.toList()),
+                everyItem(equalTo("transitive")));
+        assertThat(dependencies.get(0).getVersion(), equalTo("1.0.0"));
+    }
+
+    @Test
+    void testFailedCollection() throws DependencyCollectionException {
+        when(this.repositorySystem.collectDependencies(any(), any()))
+                .thenThrow(new DependencyCollectionException(new CollectResult(new CollectRequest())));
+        final MavenProject project = project();
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> this.collector.collect(project, dependency -> {
+                }));
+        assertThat(exception.getMessage(), startsWith("E-PK-85"));
+    }
+
+    private List<String> collectArtifactIds() {
+        final List<String> artifactIds = new ArrayList<>();
+        this.collector.collect(project(), dependency -> artifactIds.add(dependency.getArtifactId()));
+        return artifactIds;
+    }
+
+    private void mockGraph(final DefaultDependencyNode... directDependencies) throws DependencyCollectionException {
+        final var root = new DefaultDependencyNode((org.eclipse.aether.graph.Dependency) null);
+        root.setChildren(new ArrayList<>(List.of(directDependencies)));
+        final var result = new CollectResult(new CollectRequest());
+        result.setRoot(root);
+        when(this.repositorySystem.collectDependencies(any(), any())).thenReturn(result);
+    }
+
+    private static DefaultDependencyNode node(final String artifactId, final String scope) {
+        return new DefaultDependencyNode(new org.eclipse.aether.graph.Dependency(
+                new DefaultArtifact("com.example", artifactId, "jar", "1.0.0"), scope));
+    }
+
+    private static MavenProject project() {
+        final var model = new Model();
+        model.setArtifactId("my-project");
+        for (final String artifactId : List.of("library-a", "library-b", "test-library")) {
+            final var dependency = new Dependency();
+            dependency.setGroupId("com.example");
+            dependency.setArtifactId(artifactId);
+            dependency.setVersion("1.0.0");
+            dependency.setScope(artifactId.startsWith("test") ? "test" : "compile");
+            model.addDependency(dependency);
+        }
+        return new MavenProject(model);
+    }
+}
@@ -0,0 +1,100 @@
+package com.exasol.projectkeeper.validators.dependencies.renderer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.projectkeeper.validators.dependencies.*;
+
+class DependencyPageParserTest {
+    private static final List<ProjectDependency> DEPENDENCIES = List.of(
+            new ProjectDependency("my-lib", "https://example.com/my-lib",
+                    List.of(new License("MIT License", "https://mit.edu")), ProjectDependency.Type.COMPILE,
+                    "com.example:my-lib:1.0.0"),
+            new ProjectDependency("Test Library [beta]", null,
+                    List.of(new License("MIT License", "https://mit.edu"), new License("Custom License", null)),
+                    ProjectDependency.Type.TEST, "com.example:test-lib:2.0.0"),
+            new ProjectDependency("my-plugin", "https://example.com/my-plugin", List.of(),
+                    ProjectDependency.Type.PLUGIN, "com.example:my-plugin:3.0.0"),
+            new ProjectDependency("other-lib", "https://example.com/other-lib", List.of(),
+                    ProjectDependency.Type.COMPILE, "com.example:other-lib:4.0.0"));
+
+    @Test
+    void testRenderedPageIsParsed() {
+        final Map<String, DependencyMetadata> metadata = new DependencyPageParser()
+                .parse(new DependencyPageRenderer().render(DEPENDENCIES));
+        assertThat(metadata.keySet(), containsInAnyOrder("com.example:my-lib:1.0.0", "com.example:test-lib:2.0.0",
+                "com.example:my-plugin:3.0.0", "com.example:other-lib:4.0.0"));
+        final DependencyMetadata testLibrary = metadata.get("com.example:test-lib:2.0.0");
+        assertThat(testLibrary.getName(), equalTo("Test Library [beta]"));
+        assertThat(testLibrary.getWebsiteUrl(), nullValue());
+        assertThat(testLibrary.getLicenses().get(0).getUrl(), equalTo("https://mit.edu"));
+        assertThat(testLibrary.getLicenses().get(1).getName(), equalTo("Custom License"));
+        assertThat(testLibrary.getLicenses().get(1).getUrl(), nullValue());
+        assertThat(metadata.get("com.example:other-lib:4.0.0").getWebsiteUrl(),
+                equalTo("https://example.com/other-lib"));
+        assertThat(metadata.get("com.example:my-plugin:3.0.0").getLicenses(), empty());
+    }
+
+    @Test
+    void testPageWithoutCoordinatesIsIgnored() {
+        final String page = new DependencyPageRenderer().render(List.of(new ProjectDependency("my-lib",
+                "https://example.com/my-lib", List.of(), ProjectDependency.Type.COMPILE)));
+        assertThat(new DependencyPageParser().parse(page), anEmptyMap());
+    }
+
+    @Test
+    void testEditedPageIsIgnored() {
+        final String page = new DependencyPageRenderer().render(DEPENDENCIES).replace("| [my-lib]", "|  [my-lib]");
+        assertThat(new DependencyPageParser().parse(page), anEmptyMap());
+    }
+
+    @Test
+    void testMissingCoordinatesAreIgnored() {
+        final String page = new DependencyPageRenderer().render(DEPENDENCIES)
+                .replace(" com.example:other-lib:4.0.0", "");
+        assertThat(new DependencyPageParser().parse(page), anEmptyMap());
+    }
+
+    @Test
+    void testUnknownReferenceIsIgnored() {
+        final String page = new DependencyPageRenderer().render(DEPENDENCIES).replaceAll("\\[0\\]: .*\\R", "");
+        assertThat(new DependencyPageParser().parse(page), anEmptyMap());
+    }
+
+    @Test
+    void testReferencesAreParsed() {
+        final Map<String, Integer> references = new DependencyPageParser()
+                .parseReferences(new DependencyPageRenderer().render(DEPENDENCIES));
+        assertThat(references, allOf(hasEntry("https://example.com/my-lib", 0), hasEntry("https://mit.edu", 1),
+                aMapWithSize(4)));
+    }
+
+    @Test
+    void testPageWithKeptReferencesIsParsed() {
+        final String page = new DependencyPageRenderer(Map.of("https://mit.edu", 9)).render(DEPENDENCIES);
+        assertThat(new DependencyPageParser().parse(page), aMapWithSize(4));
+    }
+
+    @Test
+    void testPageWithSameLinkReplacementsIsParsed() {
+        final String page = new DependencyPageRenderer(Map.of(), "fingerprint").render(DEPENDENCIES);
+        assertThat(new DependencyPageParser().parse(page, "fingerprint"), aMapWithSize(4));
+    }
+
+    @Test
+    void testPageWithOtherLinkReplacementsIsIgnored() {
+        final String page = new DependencyPageRenderer(Map.of(), "old fingerprint").render(DEPENDENCIES);
+        assertThat(new DependencyPageParser().parse(page, "new fingerprint"), anEmptyMap());
+        assertThat(new DependencyPageParser().parse(page), anEmptyMap());
+    }
+
+    @Test
+    void testEmptyPageIsIgnored() {
+        assertThat(new DependencyPageParser().parse(""), anEmptyMap());
+    }
+}
@@ -3,8 +3,12 @@ package com.exasol.projectkeeper.validators.dependencies.renderer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +25,37 @@ class DependencyPageRendererTest {
                         .replace("\n", System.lineSeparator())));
     }
 
+    @Test
+    void testCoordinatesAreListedInOrderOfRows() {
+        final List<ProjectDependency> dependencies = List.of(
+                new ProjectDependency("my-plugin", null, List.of(), ProjectDependency.Type.PLUGIN,
+                        "com.example:my-plugin:1.0.0"),
+                new ProjectDependency("my-lib", null, List.of(), ProjectDependency.Type.COMPILE,
+                        "com.example:my-lib:2.0.0"));
+        assertThat(new DependencyPageRenderer().render(dependencies), startsWith("<!-- @formatter:off -->"
+                + System.lineSeparator()
+                + "<!-- @dependencies: com.example:my-lib:2.0.0 com.example:my-plugin:1.0.0 -->"
+                + System.lineSeparator() + "# Dependencies"));
+    }
+
+    @Test
+    void testRenderToWriter() throws IOException {
+        final List<ProjectDependency> dependencies = List.of(buildDependency(ProjectDependency.Type.COMPILE),
+                buildDependency(ProjectDependency.Type.PLUGIN));
+        final var writer = new StringWriter();
+        new DependencyPageRenderer().render(dependencies, writer);
+        assertThat(writer.toString(), equalTo(new DependencyPageRenderer().render(dependencies)));
+    }
+
+    @Test
+    void testExistingReferencesAreKept() {
+        final ProjectDependency dependency = buildDependency(ProjectDependency.Type.COMPILE);
+        final String result = new DependencyPageRenderer(Map.of("https://mit.edu", 4)).render(List.of(dependency));
+        assertThat(result, containsString("| [my-lib][5] | [MIT License][4] |" + System.lineSeparator()
+                + System.lineSeparator() + "[4]: https://mit.edu" + System.lineSeparator()
+                + "[5]: https://exasmple.com/mylib" + System.lineSeparator()));
+    }
+
     @Test
     void testTestDependency() {
         final ProjectDependency dependency = buildDependency(ProjectDependency.Type.TEST);
@@ -39,6 +74,13 @@ class DependencyPageRendererTest {
         assertThat(new DependencyPageRenderer().render(List.of(dependency)), containsString("## Plugin Dependencies"));
     }
 
+    @Test
+    void testTransitiveDependency() {
+        final ProjectDependency dependency = buildDependency(ProjectDependency.Type.TRANSITIVE);
+        assertThat(new DependencyPageRenderer().render(List.of(dependency)),
+                containsString("## Transitive Dependencies"));
+    }
+
     private ProjectDependency buildDependency(final ProjectDependency.Type type) {
         return new ProjectDependency("my-lib", "https://exasmple.com/mylib",
                 List.of(new License("MIT License", "https://mit.edu")), type);
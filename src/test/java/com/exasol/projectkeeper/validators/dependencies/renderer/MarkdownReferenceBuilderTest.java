@@ -4,6 +4,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 class MarkdownReferenceBuilderTest {
@@ -29,4 +31,45 @@ class MarkdownReferenceBuilderTest {
         final String reference2 = referenceBuilder.getReferenceForUrl("Exasol Website", "https://exasol.de");
         assertThat(reference1, not(equalTo(reference2)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRepeatedUrlDoesNotConsumeNumber() {
+        final MarkdownReferenceBuilder referenceBuilder = new MarkdownReferenceBuilder();
+        referenceBuilder.getReferenceForUrl("a", "https://a.com");
+        referenceBuilder.getReferenceForUrl("a", "https://a.com");
+        assertThat(referenceBuilder.getReferenceForUrl("b", "https://b.com"), equalTo("1"));
+    }
+
+    @Test
+    void testReferencesAreInOrderOfFirstUse() {
+        final MarkdownReferenceBuilder referenceBuilder = new MarkdownReferenceBuilder();
+        referenceBuilder.getReferenceForUrl("b", "https://b.com");
+        referenceBuilder.getReferenceForUrl("a", "https://a.com");
+        assertThat(referenceBuilder.getReferences(), equalTo("[0]: https://b.com" + System.lineSeparator()
+                + "[1]: https://a.com" + System.lineSeparator()));
+    }
+
+    @Test
+    void testExistingReferenceIsKept() {
+        final MarkdownReferenceBuilder referenceBuilder = new MarkdownReferenceBuilder(
+                Map.of("https://a.com", 3, "https://b.com", 7));
+        assertThat(referenceBuilder.getReferenceForUrl("a", "https://a.com"), equalTo("3"));
+    }
+
+    @Test
+    void testNewReferenceGetsNumberAfterExistingReferences() {
+        final MarkdownReferenceBuilder referenceBuilder = new MarkdownReferenceBuilder(
+                Map.of("https://a.com", 3, "https://b.com", 7));
+        assertThat(referenceBuilder.getReferenceForUrl("c", "https://c.com"), equalTo("8"));
+    }
+
+    @Test
+    void testUnusedExistingReferencesAreNotDeclared() {
+        final MarkdownReferenceBuilder referenceBuilder = new MarkdownReferenceBuilder(
+                Map.of("https://a.com", 3, "https://b.com", 7));
+        referenceBuilder.getReferenceForUrl("c", "https://c.com");
+        referenceBuilder.getReferenceForUrl("a", "https://a.com");
+        assertThat(referenceBuilder.getReferences(), equalTo("[3]: https://a.com" + System.lineSeparator()
+                + "[8]: https://c.com" + System.lineSeparator()));
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Node;
 
+import com.exasol.projectkeeper.FixTransaction;
+
 class PomFileIOTest {
 
     public static final String TEST_ELEMENT = "my-test-element";
@@ -30,7 +32,9 @@ class PomFileIOTest {
         final PomFileIO pomFileIO = new PomFileIO(pomFile);
         final Node root = runXPath(pomFileIO.getContent(), "/project");
         root.appendChild(pomFileIO.getContent().createElement(TEST_ELEMENT));
-        pomFileIO.writeChanges();
+        final FixTransaction transaction = new FixTransaction();
+        pomFileIO.writeChanges(transaction);
+        transaction.commit();
         final PomFileIO pomFileIO2 = new PomFileIO(pomFile);
         assertThat(pomFileIO2.getContent(), hasXPath("/project/" + TEST_ELEMENT));
     }
@@ -18,6 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.exasol.projectkeeper.ProjectKeeperModule;
+import com.exasol.projectkeeper.ProjectSnapshot;
+import com.exasol.projectkeeper.repository.GitRepository;
+import com.exasol.projectkeeper.validators.SimpleMavenProjectFromFileReader;
 
 class PomFileValidatorTest {
 
@@ -25,7 +28,7 @@ class PomFileValidatorTest {
     void testMissingPlugin(@TempDir final File tempDir) throws IOException {
         final File pomFile = writeResourceToTempFile(tempDir, POM_WITH_NO_PLUGINS);
         final PomFileValidator runner = new PomFileValidator(Arrays.asList(ProjectKeeperModule.values()),
-                Collections.emptyList(), pomFile);
+                Collections.emptyList(), snapshot(tempDir, pomFile));
         assertThat(runner, validationErrorMessages(
                 hasItems(containsString("E-PK-15: Missing maven plugin org.codehaus.mojo:versions-maven-plugin."))));
     }
@@ -34,7 +37,7 @@ class PomFileValidatorTest {
     void testFixMissingPlugin(@TempDir final File tempDir) throws IOException {
         final File pomFile = writeResourceToTempFile(tempDir, POM_WITH_NO_PLUGINS);
         final PomFileValidator runner = new PomFileValidator(Arrays.asList(ProjectKeeperModule.values()),
-                Collections.emptyList(), pomFile);
+                Collections.emptyList(), snapshot(tempDir, pomFile));
         assertThat(runner, hasNoMoreFindingsAfterApplyingFixes());
     }
 
@@ -42,7 +45,12 @@ class PomFileValidatorTest {
     // [utest->dsn~modules~1]
     void testNoErrorsOnNoModules(@TempDir final File tempDir) throws IOException {
         final File pomFile = writeResourceToTempFile(tempDir, POM_WITH_NO_PLUGINS);
-        final PomFileValidator runner = new PomFileValidator(Collections.emptyList(), Collections.emptyList(), pomFile);
+        final PomFileValidator runner = new PomFileValidator(Collections.emptyList(), Collections.emptyList(), snapshot(tempDir, pomFile));
         assertThat(runner, hasNoValidationFindings());
     }
-}
\ No newline at end of file
+
+    private ProjectSnapshot snapshot(final File projectDir, final File pomFile) {
+        return new ProjectSnapshot(projectDir.toPath(), pomFile, new SimpleMavenProjectFromFileReader(),
+                new GitRepository(projectDir.toPath()));
+    }
+}
@@ -6,6 +6,7 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.function.Consumer;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.*;
@@ -64,10 +65,8 @@ public class PomTesting {
         }
 
         @Override
-        public List<ValidationFinding> validate() {
-            final var findings = new ArrayList<ValidationFinding>();
-            this.validator.validate(this.pom, this.enabledModules, findings::add);
-            return findings;
+        public void validate(final Consumer<ValidationFinding> findingConsumer) {
+            this.validator.validate(this.pom, this.enabledModules, findingConsumer);
         }
     }
 }